@@ -0,0 +1,69 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a collection of size elements with add and with addAll.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class AddBenchmark {
+    @Param
+    private ListKind kind;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+    private List<Integer> source;
+
+    /**
+     * boxes the values once per trial.
+     */
+    @Setup
+    public void setUp() {
+        values = ListKind.values(size);
+        source = new ArrayList<Integer>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public Collection<Integer> add() {
+        Collection<Integer> collection = kind.create();
+        for (Integer value : values) {
+            collection.add(value);
+        }
+        return collection;
+    }
+
+    @Benchmark
+    public Collection<Integer> addAll() {
+        Collection<Integer> collection = kind.create();
+        collection.addAll(source);
+        return collection;
+    }
+}
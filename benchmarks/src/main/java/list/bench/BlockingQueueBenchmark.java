@@ -0,0 +1,218 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import list.BoundedLinkedBlockingQueue;
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs one producer/consumer pipeline per call: many producer tasks each put
+ * their share of the elements into a bounded queue, and a few consumers take
+ * them in batches until all have arrived. It compares BoundedLinkedBlockingQueue
+ * with a LinkedList guarded by one monitor and wait/notifyAll, and with
+ * java.util.concurrent.LinkedBlockingQueue. Tasks run on virtual threads when
+ * the JVM has them (Java 21 and later) and on a cached pool of platform
+ * threads otherwise.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BlockingQueueBenchmark {
+    /**
+     * queues measured.
+     */
+    public enum Kind {
+        TWO_LOCK,
+        MONITOR,
+        LINKED_BLOCKING_QUEUE
+    }
+
+    private static final int CAPACITY = 1024;
+    private static final int BATCH = 64;
+    private static final int CONSUMERS = 4;
+
+    @Param
+    private Kind kind;
+
+    @Param({"1000", "10000"})
+    private int producers;
+
+    @Param({"100"})
+    private int perProducer;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = virtualThreadExecutor();
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long pipeline() throws Exception {
+        Channel channel = newChannel();
+        AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        List<Future<Long>> futures = new ArrayList<Future<Long>>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            futures.add(executor.submit(() -> consume(channel, remaining)));
+        }
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    channel.put(base + i);
+                }
+                return 0L;
+            }));
+        }
+
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    /*
+     * takes batches until every element has been consumed, waiting briefly when
+     * the queue is empty so a consumer can see the end. Returns the sum taken.
+     */
+    private static long consume(Channel channel, AtomicInteger remaining) throws InterruptedException {
+        List<Integer> batch = new ArrayList<Integer>(BATCH);
+        long sum = 0;
+        while (remaining.get() > 0) {
+            int taken = channel.drain(batch);
+            for (int i = 0; i < taken; i++) {
+                sum += batch.get(i);
+            }
+            batch.clear();
+            remaining.addAndGet(-taken);
+        }
+        return sum;
+    }
+
+    /*
+     * returns a channel over a new empty queue of the measured kind.
+     */
+    private Channel newChannel() {
+        if (kind == Kind.MONITOR) {
+            return new MonitorChannel();
+        }
+
+        BlockingQueue<Integer> queue = (kind == Kind.TWO_LOCK) ? new BoundedLinkedBlockingQueue<Integer>(CAPACITY)
+                : new LinkedBlockingQueue<Integer>(CAPACITY);
+        return new Channel() {
+            @Override
+            public void put(Integer element) throws InterruptedException {
+                queue.put(element);
+            }
+
+            @Override
+            public int drain(List<Integer> batch) throws InterruptedException {
+                int taken = queue.drainTo(batch, BATCH);
+                if (taken == 0) {
+                    Integer element = queue.poll(1, TimeUnit.MILLISECONDS);
+                    if (element != null) {
+                        batch.add(element);
+                        taken = 1;
+                    }
+                }
+                return taken;
+            }
+        };
+    }
+
+    /*
+     * returns an executor with one virtual thread per task, found reflectively so
+     * the benchmarks still build for Java 8, or null if the JVM has none.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Channel is the part of a queue the pipeline uses.
+     */
+    private interface Channel {
+        void put(Integer element) throws InterruptedException;
+
+        int drain(List<Integer> batch) throws InterruptedException;
+    }
+
+    /*
+     * MonitorChannel is the single-lock design being replaced: a LinkedList guarded
+     * by its own monitor, with wait and notifyAll for both full and empty.
+     */
+    private static final class MonitorChannel implements Channel {
+        private final LinkedList<Integer> list = new LinkedList<Integer>();
+
+        @Override
+        public void put(Integer element) throws InterruptedException {
+            synchronized (list) {
+                while (list.size() == CAPACITY) {
+                    list.wait();
+                }
+                list.add(element);
+                list.notifyAll();
+            }
+        }
+
+        @Override
+        public int drain(List<Integer> batch) throws InterruptedException {
+            synchronized (list) {
+                if (list.isEmpty()) {
+                    list.wait(1);
+                }
+                int taken = 0;
+                while (taken < BATCH && !list.isEmpty()) {
+                    batch.add(list.removeFirst());
+                    taken++;
+                }
+                if (taken > 0) {
+                    list.notifyAll();
+                }
+                return taken;
+            }
+        }
+    }
+}
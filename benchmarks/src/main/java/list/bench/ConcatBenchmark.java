@@ -0,0 +1,88 @@
+package list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging many partial result lists into one: splice relinks each
+ * partial list in constant time, addAll copies its elements into new nodes,
+ * and java.util.LinkedList.addAll is the baseline copy.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ConcatBenchmark {
+    @Param({"1000"})
+    private int parts;
+
+    @Param({"10", "1000"})
+    private int partSize;
+
+    private LinkedList<Integer>[] partials;
+    private java.util.LinkedList<Integer>[] jdkPartials;
+
+    /**
+     * rebuilds the partial lists before every call, since splice empties them.
+     */
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Integer[] values = ListKind.values(partSize);
+        partials = new LinkedList[parts];
+        jdkPartials = new java.util.LinkedList[parts];
+        for (int i = 0; i < parts; i++) {
+            partials[i] = new LinkedList<Integer>();
+            partials[i].addAll(values);
+            jdkPartials[i] = new java.util.LinkedList<Integer>(partials[i]);
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> splice() {
+        LinkedList<Integer> merged = new LinkedList<Integer>();
+        for (LinkedList<Integer> partial : partials) {
+            merged.splice(partial);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> addAll() {
+        LinkedList<Integer> merged = new LinkedList<Integer>();
+        for (LinkedList<Integer> partial : partials) {
+            merged.addAll(partial);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public java.util.LinkedList<Integer> jdkAddAll() {
+        java.util.LinkedList<Integer> merged = new java.util.LinkedList<Integer>();
+        for (java.util.LinkedList<Integer> partial : jdkPartials) {
+            merged.addAll(partial);
+        }
+        return merged;
+    }
+}
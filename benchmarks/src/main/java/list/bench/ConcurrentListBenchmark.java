@@ -0,0 +1,97 @@
+package list.bench;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import list.ConcurrentLinkedList;
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ConcurrentLinkedList with a LinkedList wrapped by
+ * Collections.synchronizedCollection when several threads share one list.
+ * The append group only appends; the readWrite group has one thread adding and
+ * removing its own element while three threads search the list.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ConcurrentListBenchmark {
+    /**
+     * the thread-safe collections under comparison.
+     */
+    public enum Kind {
+        CONCURRENT,
+        SYNCHRONIZED
+    }
+
+    @Param
+    private Kind kind;
+
+    @Param({"1000"})
+    private int prefill;
+
+    private Collection<Integer> collection;
+    private Integer missing;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * starts every iteration from prefill elements so append runs do not pile up.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        collection = (kind == Kind.CONCURRENT) ? new ConcurrentLinkedList<Integer>()
+                : Collections.synchronizedCollection(new LinkedList<Integer>());
+        for (int i = 0; i < prefill; i++) {
+            collection.add(i);
+        }
+        missing = -1;
+    }
+
+    @Benchmark
+    @Group("append")
+    @GroupThreads(4)
+    public boolean append() {
+        return collection.add(counter.getAndIncrement());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public boolean addAndRemove() {
+        Integer value = counter.getAndIncrement() + prefill;
+        collection.add(value);
+        return collection.remove(value);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public boolean contains() {
+        return collection.contains(missing);
+    }
+}
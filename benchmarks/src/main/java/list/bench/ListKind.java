@@ -0,0 +1,78 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * The collections every benchmark runs against.
+ * list.LinkedList is measured next to java.util.LinkedList and ArrayList as baselines,
+ * and HashedLinkedList shows what its hash index buys for contains and remove.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public enum ListKind {
+    LINKED_LIST {
+        @Override
+        public <E> Collection<E> create() {
+            return new list.LinkedList<E>();
+        }
+    },
+    HASHED_LINKED_LIST {
+        @Override
+        public <E> Collection<E> create() {
+            return new list.HashedLinkedList<E>();
+        }
+    },
+    JDK_LINKED_LIST {
+        @Override
+        public <E> Collection<E> create() {
+            return new java.util.LinkedList<E>();
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        public <E> Collection<E> create() {
+            return new ArrayList<E>();
+        }
+    };
+
+    /**
+     * creates an empty collection of this kind.
+     *
+     * @param <E> type of element
+     * @return empty collection
+     */
+    public abstract <E> Collection<E> create();
+
+    /**
+     * creates a collection of this kind holding the given elements in order.
+     *
+     * @param <E> type of element
+     * @param elements elements to add
+     * @return filled collection
+     */
+    public <E> Collection<E> filled(E[] elements) {
+        Collection<E> collection = create();
+        for (E element : elements) {
+            collection.add(element);
+        }
+        return collection;
+    }
+
+    /**
+     * returns the boxed values 0 to size - 1 so benchmarks do not measure boxing.
+     *
+     * @param size number of values
+     * @return boxed values
+     */
+    public static Integer[] values(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,156 @@
+package list.bench;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.LruCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares LruCache with an access-ordered LinkedHashMap and with the
+ * LinkedList plus HashMap pairing it replaces, where every hit pays an
+ * O(n) remove(Object) to move the key to the tail.
+ * Keys are drawn from twice the capacity, so about half of the lookups miss.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LruCacheBenchmark {
+    private static final int KEYS = 1 << 16;
+
+    /**
+     * the cache implementations under comparison.
+     */
+    public enum Kind {
+        LRU_CACHE,
+        LINKED_HASH_MAP,
+        LIST_AND_MAP
+    }
+
+    /**
+     * the operations every cache implementation offers to the benchmark.
+     */
+    private interface Cache {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    @Param
+    private Kind kind;
+
+    @Param({"1000", "100000"})
+    private int capacity;
+
+    private Cache cache;
+    private Integer[] keys;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        cache = create(kind, capacity);
+        Random rand = new Random(42);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = rand.nextInt(capacity * 2);
+        }
+        for (int i = 0; i < capacity; i++) {
+            cache.put(keys[i % KEYS], i);
+        }
+    }
+
+    /**
+     * looks a key up and caches it on a miss, the usual read-through pattern.
+     *
+     * @return the cached value
+     */
+    @Benchmark
+    public Integer getOrPut() {
+        Integer key = keys[cursor++ & (KEYS - 1)];
+        Integer value = cache.get(key);
+        if (value == null) {
+            cache.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    private static Cache create(Kind kind, int capacity) {
+        switch (kind) {
+        case LRU_CACHE:
+            LruCache<Integer, Integer> lru = new LruCache<Integer, Integer>(capacity);
+            return new Cache() {
+                public Integer get(Integer key) {
+                    return lru.get(key);
+                }
+
+                public void put(Integer key, Integer value) {
+                    lru.put(key, value);
+                }
+            };
+        case LINKED_HASH_MAP:
+            Map<Integer, Integer> linked = new LinkedHashMap<Integer, Integer>(16, .75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                    return size() > capacity;
+                }
+            };
+            return new Cache() {
+                public Integer get(Integer key) {
+                    return linked.get(key);
+                }
+
+                public void put(Integer key, Integer value) {
+                    linked.put(key, value);
+                }
+            };
+        default:
+            Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+            LinkedList<Integer> order = new LinkedList<Integer>();
+            return new Cache() {
+                public Integer get(Integer key) {
+                    Integer value = map.get(key);
+                    if (value != null) {
+                        order.remove(key);
+                        order.add(key);
+                    }
+                    return value;
+                }
+
+                public void put(Integer key, Integer value) {
+                    if (map.put(key, value) != null) {
+                        order.remove(key);
+                    } else if (map.size() > capacity) {
+                        map.remove(order.removeFirst());
+                    }
+                    order.add(key);
+                }
+            };
+        }
+    }
+}
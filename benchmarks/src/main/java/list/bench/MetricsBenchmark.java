@@ -0,0 +1,69 @@
+package list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.metrics.ListMetrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what recording into ListMetrics costs the operations of LinkedList,
+ * with recording off, which is the default, and on.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    private boolean recording;
+
+    @Param({"1000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+    private Integer missing;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<Integer>();
+        list.addAll(ListKind.values(size));
+        list.setNodePoolCapacity(16);
+        list.setMetrics(recording ? new ListMetrics() : null);
+        missing = -1;
+    }
+
+    @Benchmark
+    public Integer addRemoveFirst() {
+        list.add(size);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+}
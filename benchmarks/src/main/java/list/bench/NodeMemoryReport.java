@@ -0,0 +1,209 @@
+package list.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import list.HashedLinkedList;
+import list.LinkedList;
+
+/**
+ * Reports how many bytes a LinkedList spends per element.
+ * The report prints the object layout the running JVM uses for a node,
+ * then measures the heap used by a large list of each layout, once holding one
+ * shared element and once holding distinct elements, which is what the hash index
+ * of HashedLinkedList pays for.
+ * Run it once with -XX:+UseCompressedOops and once with -XX:-UseCompressedOops
+ * to compare the two 64-bit configurations, e.g.
+ * java -XX:-UseCompressedOops -cp target/benchmarks.jar list.bench.NodeMemoryReport
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public final class NodeMemoryReport {
+    private static final int DEFAULT_ELEMENTS = 1000000;
+    private static final String HOTSPOT_BEAN = "com.sun.management:type=HotSpotDiagnostic";
+
+    private NodeMemoryReport() {
+    }
+
+    /**
+     * prints the layout and heap report.
+     *
+     * @param args optional number of elements to measure
+     */
+    public static void main(String[] args) {
+        int elements = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+        boolean compressedOops = booleanOption("UseCompressedOops", false);
+        boolean compressedClass = booleanOption("UseCompressedClassPointers", compressedOops);
+        int alignment = intOption("ObjectAlignmentInBytes", 8);
+        int reference = compressedOops ? 4 : 8;
+        int header = compressedClass ? 12 : 16;
+
+        System.out.println("java.vm.name              " + System.getProperty("java.vm.name"));
+        System.out.println("UseCompressedOops         " + compressedOops);
+        System.out.println("UseCompressedClassPointers " + compressedClass);
+        System.out.println("ObjectAlignmentInBytes    " + alignment);
+        System.out.println();
+        System.out.println("layout estimate (header + references, aligned)");
+        System.out.println("  inner node (element, next, previous, this$0)       "
+                + align(header + 4 * reference, alignment) + " bytes");
+        System.out.println("  static node (element, next, previous)              "
+                + align(header + 3 * reference, alignment) + " bytes");
+        System.out.println("  hashed node (static node + nextSame, previousSame) "
+                + align(header + 5 * reference, alignment) + " bytes");
+        System.out.println("  HashMap entry (hash, key, value, next)             "
+                + align(header + 4 + 3 * reference, alignment) + " bytes");
+        System.out.println();
+
+        Object[] shared = new Object[elements];
+        Arrays.fill(shared, new Object());
+        System.out.println("heap measurement, one shared element");
+        report("inner node chain", shared, InnerNodeChain::new);
+        report("list.LinkedList", shared, LinkedList::new);
+        report("java.util.LinkedList", shared, java.util.LinkedList::new);
+        report("list.HashedLinkedList", shared, HashedLinkedList::new);
+        shared = null;
+        System.out.println();
+
+        Object[] distinct = new Object[elements];
+        for (int i = 0; i < elements; i++) {
+            distinct[i] = new Object();
+        }
+        System.out.println("heap measurement, distinct elements (elements not counted)");
+        report("list.LinkedList", distinct, LinkedList::new);
+        report("list.HashedLinkedList", distinct, HashedLinkedList::new);
+        report("java.util.LinkedHashSet", distinct, LinkedHashSet::new);
+    }
+
+    /*
+     * fills a fresh collection with the allocated elements and prints the bytes per element.
+     */
+    private static void report(String name, Object[] elements, Supplier<Collection<Object>> factory) {
+        long before = usedHeap();
+        Collection<Object> collection = factory.get();
+        for (Object element : elements) {
+            collection.add(element);
+        }
+        long after = usedHeap();
+        double perElement = (double) (after - before) / elements.length;
+        System.out.printf("  %-24s %6.1f bytes per element over %d elements%n",
+                name, perElement, collection.size());
+    }
+
+    /*
+     * returns the heap in use after a few collections have settled it.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static long align(long bytes, int alignment) {
+        return (bytes + alignment - 1) / alignment * alignment;
+    }
+
+    private static boolean booleanOption(String name, boolean fallback) {
+        String value = vmOption(name);
+        return (value == null) ? fallback : Boolean.parseBoolean(value);
+    }
+
+    private static int intOption(String name, int fallback) {
+        String value = vmOption(name);
+        return (value == null) ? fallback : Integer.parseInt(value);
+    }
+
+    /*
+     * reads a HotSpot flag through the diagnostic MBean, or null on other JVMs.
+     */
+    private static String vmOption(String name) {
+        try {
+            Object option = ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName(HOTSPOT_BEAN), "getVMOption",
+                    new Object[] {name}, new String[] {String.class.getName()});
+            return ((CompositeData) option).get("value").toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /*
+     * InnerNodeChain keeps the node layout LinkedList used before its node
+     * became static, so the two can be measured side by side.
+     */
+    private static class InnerNodeChain extends AbstractCollection<Object> {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        @Override
+        public boolean add(Object element) {
+            Node node = new Node(element);
+            node.previous = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+            return true;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                private Node nextNode = head;
+
+                @Override
+                public boolean hasNext() {
+                    return nextNode != null;
+                }
+
+                @Override
+                public Object next() {
+                    if (nextNode == null) {
+                        throw new NoSuchElementException();
+                    }
+
+                    Object element = nextNode.element;
+                    nextNode = nextNode.next;
+                    return element;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /*
+         * non-static on purpose: every instance holds a reference to its chain.
+         */
+        private class Node {
+            private Object element;
+            private Node next;
+            private Node previous;
+
+            Node(Object element) {
+                this.element = element;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package list.bench;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.OffHeapLinkedList;
+import list.io.ElementCodecs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what a large live list costs the garbage collector.
+ * fullGc times System.gc() while the list is reachable, which grows with the
+ * number of heap objects the collector has to trace; sum walks the list.
+ * Larger sizes need -jvmArgsAppend -XX:MaxDirectMemorySize for the off-heap list.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-XX:MaxDirectMemorySize=6g"})
+public class OffHeapBenchmark {
+    /**
+     * where the nodes of the list live.
+     */
+    public enum Kind {
+        ON_HEAP,
+        OFF_HEAP
+    }
+
+    @Param
+    private Kind kind;
+
+    @Param({"10000000"})
+    private int size;
+
+    private Collection<Integer> collection;
+
+    @Setup
+    public void setUp() {
+        collection = (kind == Kind.ON_HEAP) ? new LinkedList<Integer>()
+                : new OffHeapLinkedList<Integer>(ElementCodecs.INT);
+        for (int i = 0; i < size; i++) {
+            collection.add(i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (collection instanceof OffHeapLinkedList) {
+            ((OffHeapLinkedList<Integer>) collection).close();
+        }
+    }
+
+    @Benchmark
+    public int fullGc() {
+        System.gc();
+        return collection.size();
+    }
+
+    @Benchmark
+    public long sum() {
+        long sum = 0;
+        for (Integer element : collection) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,117 @@
+package list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the fork/join bulk operations of LinkedList with their sequential
+ * counterparts. work is the number of Blackhole CPU tokens burned per element,
+ * standing in for a predicate or function that does real work.
+ * The parallel operations use the common pool, so a speedup curve is measured
+ * by running once per pool size, e.g. with
+ * -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=4.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ParallelBulkBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"0", "50"})
+    private int work;
+
+    private Integer[] values;
+    private LinkedList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpValues() {
+        values = ListKind.values(size);
+    }
+
+    /**
+     * refills the list before every call, since removeIf and replaceAll change it.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = new LinkedList<Integer>();
+        list.addAll(values);
+    }
+
+    @Benchmark
+    public void forEach() {
+        list.forEach(element -> Blackhole.consumeCPU(work + (element & 1)));
+    }
+
+    @Benchmark
+    public void parallelForEach() {
+        list.parallelForEach(element -> Blackhole.consumeCPU(work + (element & 1)));
+    }
+
+    @Benchmark
+    public boolean removeIf() {
+        return list.removeIf(element -> {
+            Blackhole.consumeCPU(work);
+            return (element & 1) == 0;
+        });
+    }
+
+    @Benchmark
+    public boolean parallelRemoveIf() {
+        return list.parallelRemoveIf(element -> {
+            Blackhole.consumeCPU(work);
+            return (element & 1) == 0;
+        });
+    }
+
+    @Benchmark
+    public LinkedList<Integer> replaceAll() {
+        list.replaceAll(element -> {
+            Blackhole.consumeCPU(work);
+            return element + 1;
+        });
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> parallelReplaceAll() {
+        list.parallelReplaceAll(element -> {
+            Blackhole.consumeCPU(work);
+            return element + 1;
+        });
+        return list;
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public Object[] parallelToArray() {
+        return list.parallelToArray();
+    }
+}
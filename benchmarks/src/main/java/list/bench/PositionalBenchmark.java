@@ -0,0 +1,103 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import list.IndexedLinkedList;
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures access by position: get at a random index, insert and remove at
+ * a random index, and append with removal from the end, for IndexedLinkedList
+ * against LinkedList and ArrayList. The size stays constant during a run.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PositionalBenchmark {
+    /**
+     * list implementations measured.
+     */
+    public enum Kind {
+        INDEXED_LINKED_LIST,
+        LINKED_LIST,
+        ARRAY_LIST
+    }
+
+    @Param
+    private Kind kind;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] indexes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Integer> values = Arrays.asList(ListKind.values(size));
+        if (kind == Kind.INDEXED_LINKED_LIST) {
+            list = new IndexedLinkedList<Integer>(values);
+        } else if (kind == Kind.LINKED_LIST) {
+            list = new LinkedList<Integer>();
+            list.addAll(values);
+        } else {
+            list = new ArrayList<Integer>(values);
+        }
+
+        Random rand = new Random(42);
+        indexes = new int[1 << 12];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = rand.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer insertRemove() {
+        int index = nextIndex();
+        list.add(index, index);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Integer appendRemoveLast() {
+        list.add(size);
+        return list.remove(size);
+    }
+
+    /*
+     * returns the next of the precomputed random indexes.
+     */
+    private int nextIndex() {
+        return indexes[next++ & (indexes.length - 1)];
+    }
+}
@@ -0,0 +1,96 @@
+package list.bench;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the operations which only read the collection:
+ * contains, size, toArray, iteration and sequential and parallel streams.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ReadBenchmark {
+    @Param
+    private ListKind kind;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Collection<Integer> collection;
+    private Integer middle;
+    private Integer missing;
+
+    /**
+     * fills the collection once per trial.
+     */
+    @Setup
+    public void setUp() {
+        collection = kind.filled(ListKind.values(size));
+        middle = size / 2;
+        missing = -1;
+    }
+
+    @Benchmark
+    public boolean containsMiddle() {
+        return collection.contains(middle);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return collection.contains(missing);
+    }
+
+    @Benchmark
+    public int size() {
+        return collection.size();
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return collection.toArray();
+    }
+
+    @Benchmark
+    public Integer[] toArrayTyped() {
+        return collection.toArray(new Integer[0]);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer element : collection) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return collection.stream().mapToLong(Integer::longValue).filter(value -> value % 3 != 0).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return collection.parallelStream().mapToLong(Integer::longValue).filter(value -> value % 3 != 0).sum();
+    }
+}
@@ -0,0 +1,108 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.StampedLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares StampedLinkedList with a LinkedList wrapped by
+ * Collections.synchronizedCollection under read-mostly load.
+ * The contains and toArray benchmarks only read; run them with -t 1,2,4,...
+ * to see how reads scale with threads. The readMostly group has three readers
+ * and one thread writing a batch of elements now and then.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadMostlyBenchmark {
+    /**
+     * the thread-safe collections under comparison.
+     */
+    public enum Kind {
+        STAMPED,
+        SYNCHRONIZED
+    }
+
+    @Param
+    private Kind kind;
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"16"})
+    private int batch;
+
+    private Collection<Integer> collection;
+    private List<Integer> burst;
+    private Integer missing;
+
+    @Setup
+    public void setUp() {
+        collection = (kind == Kind.STAMPED) ? new StampedLinkedList<Integer>()
+                : Collections.synchronizedCollection(new LinkedList<Integer>());
+        for (int i = 0; i < size; i++) {
+            collection.add(i);
+        }
+
+        burst = new ArrayList<Integer>();
+        for (int i = 0; i < batch; i++) {
+            burst.add(size + i);
+        }
+        missing = -1;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean contains() {
+        return collection.contains(missing);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object[] toArray() {
+        return collection.toArray();
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(3)
+    public boolean read() {
+        return collection.contains(missing);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public boolean writeBurst() {
+        collection.addAll(burst);
+        return collection.removeAll(burst);
+    }
+}
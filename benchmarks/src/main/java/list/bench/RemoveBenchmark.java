@@ -0,0 +1,95 @@
+package list.bench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations which remove elements: remove, removeAll and retainAll.
+ * The collection is refilled before every invocation and the refill is not timed,
+ * so each invocation starts from the same size elements.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class RemoveBenchmark {
+    private static final int REMOVED_BY_VALUE = 100;
+
+    @Param
+    private ListKind kind;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+    private List<Integer> everyTenth;
+    private List<Integer> everyOther;
+    private Collection<Integer> collection;
+
+    /**
+     * boxes the values and builds the argument lists once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = ListKind.values(size);
+        everyTenth = new ArrayList<Integer>();
+        everyOther = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 0) {
+                everyTenth.add(values[i]);
+            }
+            if (i % 2 == 0) {
+                everyOther.add(values[i]);
+            }
+        }
+    }
+
+    /**
+     * refills the collection before every call.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        collection = kind.filled(values);
+    }
+
+    @Benchmark
+    public Collection<Integer> remove() {
+        int step = Math.max(1, size / REMOVED_BY_VALUE);
+        for (int i = 0; i < size; i += step) {
+            collection.remove(values[i]);
+        }
+        return collection;
+    }
+
+    @Benchmark
+    public boolean removeAll() {
+        return collection.removeAll(everyTenth);
+    }
+
+    @Benchmark
+    public boolean retainAll() {
+        return collection.retainAll(everyOther);
+    }
+}
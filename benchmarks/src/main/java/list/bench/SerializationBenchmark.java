@@ -0,0 +1,112 @@
+package list.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.io.ElementCodecs;
+import list.io.LinkedListSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the binary snapshot of LinkedListSerializer with ObjectOutputStream
+ * for a list of Integers, writing to and reading from files in the temp directory.
+ * Reading a snapshot is measured both streaming and through a memory map.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SerializationBenchmark {
+    @Param({"10000000"})
+    private int size;
+
+    private final LinkedListSerializer<Integer> serializer =
+            new LinkedListSerializer<Integer>(ElementCodecs.INT);
+    private LinkedList<Integer> list;
+    private Path snapshotFile;
+    private Path objectFile;
+
+    /**
+     * fills the list and writes one file of each format to read back.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        list = new LinkedList<Integer>();
+        list.addAll(ListKind.values(size));
+        snapshotFile = Files.createTempFile("list", ".lls");
+        objectFile = Files.createTempFile("list", ".ser");
+        writeSnapshot();
+        writeObjectStream();
+        System.out.printf("%n%d bytes as snapshot, %d bytes through ObjectOutputStream%n",
+                Files.size(snapshotFile), Files.size(objectFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(objectFile);
+    }
+
+    @Benchmark
+    public long writeSnapshot() throws IOException {
+        return serializer.save(list, snapshotFile);
+    }
+
+    @Benchmark
+    public long writeObjectStream() throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(objectFile), 1 << 16))) {
+            out.writeObject(list);
+        }
+        return Files.size(objectFile);
+    }
+
+    @Benchmark
+    public LinkedList<Integer> readSnapshotStream() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            return serializer.read(channel);
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> readSnapshotMapped() throws IOException {
+        return serializer.load(snapshotFile);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public LinkedList<Integer> readObjectStream() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(
+                Files.newInputStream(objectFile), 1 << 16))) {
+            return (LinkedList<Integer>) in.readObject();
+        }
+    }
+}
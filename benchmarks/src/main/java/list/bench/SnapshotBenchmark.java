@@ -0,0 +1,76 @@
+package list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+import list.PersistentLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures handing a reader a stable view of a list which keeps being appended to:
+ * snapshot shares the nodes, toArray and a copy into java.util.ArrayList copy them.
+ * Each call appends one element and removes the head first, the writer's usual work,
+ * so a snapshot keeps sharing and never copies the chain.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SnapshotBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<Integer>();
+        list.addAll(ListKind.values(size));
+        next = size;
+    }
+
+    @Benchmark
+    public PersistentLinkedList<Integer> snapshot() {
+        slide();
+        return list.snapshot();
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        slide();
+        return list.toArray();
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> arrayListCopy() {
+        slide();
+        return new java.util.ArrayList<Integer>(list);
+    }
+
+    /*
+     * moves the window of the list one element forward.
+     */
+    private void slide() {
+        list.add(next++);
+        list.removeFirst();
+    }
+}
@@ -0,0 +1,98 @@
+package list.bench;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares LinkedList.sort, which relinks the nodes in place, with the array
+ * round trip it replaces: toArray, Arrays.sort, clear and add every element again.
+ * java.util.LinkedList.sort, which also goes through an array, is the baseline.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortBenchmark {
+    /**
+     * order of the elements before sorting.
+     */
+    public enum Order {
+        RANDOM,
+        SORTED
+    }
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param
+    private Order order;
+
+    private Integer[] values;
+    private LinkedList<Integer> list;
+    private java.util.LinkedList<Integer> jdkList;
+
+    @Setup(Level.Trial)
+    public void setUpValues() {
+        values = ListKind.values(size);
+        if (order == Order.RANDOM) {
+            Collections.shuffle(Arrays.asList(values), new Random(42));
+        }
+    }
+
+    /**
+     * refills the lists in the starting order before every call.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = new LinkedList<Integer>();
+        list.addAll(values);
+        jdkList = new java.util.LinkedList<Integer>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public LinkedList<Integer> sort() {
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> arrayRoundTrip() {
+        Object[] array = list.toArray();
+        Arrays.sort(array);
+        list.clear();
+        for (Object element : array) {
+            list.add((Integer) element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.LinkedList<Integer> jdkSort() {
+        jdkList.sort(null);
+        return jdkList;
+    }
+}
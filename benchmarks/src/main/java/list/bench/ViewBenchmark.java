@@ -0,0 +1,90 @@
+package list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import list.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs one read-only pipeline, keep the even elements, square them and sum the
+ * ones below a bound, three ways: building an intermediate LinkedList per step
+ * with add loops, through fused ListView views, and through a sequential stream.
+ * Run with -prof gc to compare the bytes allocated per call.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ViewBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+    private long bound;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<Integer>();
+        list.addAll(ListKind.values(size));
+        bound = (long) size * size / 4;
+    }
+
+    @Benchmark
+    public long intermediateLists() {
+        LinkedList<Integer> evens = new LinkedList<Integer>();
+        for (Integer element : list) {
+            if ((element & 1) == 0) {
+                evens.add(element);
+            }
+        }
+        LinkedList<Long> squares = new LinkedList<Long>();
+        for (Integer element : evens) {
+            squares.add((long) element * element);
+        }
+        long sum = 0;
+        for (Long square : squares) {
+            if (square < bound) {
+                sum += square;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long views() {
+        long sum = 0;
+        for (Long square : list.filtered(element -> (element & 1) == 0)
+                .mapped(element -> (long) element * element)
+                .filtered(square -> square < bound)) {
+            sum += square;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stream() {
+        return list.stream()
+                .filter(element -> (element & 1) == 0)
+                .mapToLong(element -> (long) element * element)
+                .filter(square -> square < bound)
+                .sum();
+    }
+}
@@ -0,0 +1,664 @@
+package list;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import list.LinkedList.Node;
+
+/**
+ * Bounded, thread-safe FIFO queue on the nodes of LinkedList, linked forward only.
+ * Producers and consumers use separate locks: put and offer lock only the tail,
+ * take, poll and drainTo lock only the head, so the two ends never contend with
+ * each other. An atomic count is the only state both ends share, and its updates
+ * also publish the links between them. The locks are ReentrantLocks rather than
+ * monitors, so a virtual thread which blocks on the queue unmounts from its carrier
+ * instead of pinning it. drainTo moves a whole batch under one acquisition of the
+ * head lock. Operations on the middle of the queue, such as remove(Object),
+ * contains, toArray, clear and iterator steps, take both locks.
+ * Iterators are weakly consistent and never throw ConcurrentModificationException.
+ * Null elements are not permitted.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class BoundedLinkedBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /*
+     * head is a sentinel whose next node holds the first element; guarded by takeLock.
+     * last holds the last element, or is head when empty; guarded by putLock.
+     */
+    private Node<E> head;
+    private Node<E> last;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * constructs an empty queue with a capacity of Integer.MAX_VALUE.
+     */
+    public BoundedLinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * constructs an empty queue which holds at most capacity elements.
+     *
+     * @param capacity - maximum number of elements
+     * @throws IllegalArgumentException - if capacity is not positive
+     */
+    public BoundedLinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+
+        this.capacity = capacity;
+        head = new Node<E>(null);
+        last = head;
+    }
+
+    /**
+     * inserts the element at the tail, waiting for space if the queue is full.
+     *
+     * @param element - non-null element
+     * @throws InterruptedException - if interrupted while waiting
+     */
+    @Override
+    public void put(E element) throws InterruptedException {
+        Node<E> node = new Node<E>(Objects.requireNonNull(element));
+        int before;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            before = enqueue(node);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * inserts the element at the tail, waiting up to the timeout for space.
+     *
+     * @param element - non-null element
+     * @param timeout - how long to wait, in units of unit
+     * @param unit - unit of the timeout
+     * @return true if added, false if the timeout elapsed first
+     * @throws InterruptedException - if interrupted while waiting
+     */
+    @Override
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        Node<E> node = new Node<E>(Objects.requireNonNull(element));
+        long nanos = unit.toNanos(timeout);
+        int before;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            before = enqueue(node);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * inserts the element at the tail if there is space, without waiting.
+     *
+     * @param element - non-null element
+     * @return true if added, false if the queue is full
+     */
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        if (count.get() == capacity) {
+            return false;
+        }
+
+        int before = -1;
+        putLock.lock();
+        try {
+            if (count.get() < capacity) {
+                before = enqueue(new Node<E>(element));
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+        return before >= 0;
+    }
+
+    /**
+     * removes and returns the head, waiting for an element if the queue is empty.
+     *
+     * @return the head of the queue
+     * @throws InterruptedException - if interrupted while waiting
+     */
+    @Override
+    public E take() throws InterruptedException {
+        E element;
+        int before;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            element = dequeue();
+            before = count.getAndDecrement();
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * removes and returns the head, waiting up to the timeout for an element.
+     *
+     * @param timeout - how long to wait, in units of unit
+     * @param unit - unit of the timeout
+     * @return the head of the queue, or null if the timeout elapsed first
+     * @throws InterruptedException - if interrupted while waiting
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E element;
+        int before;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = dequeue();
+            before = count.getAndDecrement();
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * removes and returns the head if there is one, without waiting.
+     *
+     * @return the head of the queue, or null if empty
+     */
+    @Override
+    public E poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        E element = null;
+        int before = -1;
+        takeLock.lock();
+        try {
+            if (count.get() > 0) {
+                element = dequeue();
+                before = count.getAndDecrement();
+                if (before > 1) {
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * returns the head without removing it.
+     *
+     * @return the head of the queue, or null if empty
+     */
+    @Override
+    public E peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        takeLock.lock();
+        try {
+            Node<E> first = head.getNext();
+            return (first == null) ? null : first.getElement();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * moves every available element into the collection.
+     *
+     * @param collection - collection to add the elements to
+     * @return number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * moves up to max available elements into the collection under one acquisition
+     * of the head lock, without waiting. If the collection throws, the elements
+     * it rejected stay in the queue.
+     *
+     * @param collection - collection to add the elements to
+     * @param max - maximum number of elements to move
+     * @return number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super E> collection, int max) {
+        Objects.requireNonNull(collection);
+        if (collection == this) {
+            throw new IllegalArgumentException();
+        }
+        if (max <= 0) {
+            return 0;
+        }
+
+        boolean wasFull = false;
+        takeLock.lock();
+        try {
+            int wanted = Math.min(max, count.get());
+            int taken = 0;
+            Node<E> first = head;
+            try {
+                while (taken < wanted) {
+                    Node<E> next = first.getNext();
+                    collection.add(next.getElement());
+                    next.setElement(null);
+                    first.setNext(first);
+                    first = next;
+                    taken++;
+                }
+                return taken;
+            } finally {
+                if (taken > 0) {
+                    head = first;
+                    wasFull = count.getAndAdd(-taken) == capacity;
+                }
+            }
+        } finally {
+            takeLock.unlock();
+            if (wasFull) {
+                signalNotFull();
+            }
+        }
+    }
+
+    /**
+     * returns the number of elements in the queue.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * returns how many more elements can be added without waiting.
+     *
+     * @return free capacity
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * removes the first occurrence of the object.
+     *
+     * @param object - object to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean remove(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        fullyLock();
+        try {
+            for (Node<E> trail = head, temp = trail.getNext(); temp != null; trail = temp, temp = temp.getNext()) {
+                if (object.equals(temp.getElement())) {
+                    unlink(temp, trail);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * returns true if the queue contains the object.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        fullyLock();
+        try {
+            for (Node<E> temp = head.getNext(); temp != null; temp = temp.getNext()) {
+                if (object.equals(temp.getElement())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * returns the elements from head to tail in a new array.
+     *
+     * @return array of the elements
+     */
+    @Override
+    public Object[] toArray() {
+        fullyLock();
+        try {
+            Object[] array = new Object[count.get()];
+            int i = 0;
+            for (Node<E> temp = head.getNext(); temp != null; temp = temp.getNext()) {
+                array[i++] = temp.getElement();
+            }
+            return array;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * returns the elements from head to tail in the array, or a new one of its type.
+     *
+     * @param <T> - type of array element
+     * @param array - array to fill if it is large enough
+     * @return array of the elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        fullyLock();
+        try {
+            int size = count.get();
+            if (array.length < size) {
+                array = Arrays.copyOf(array, size);
+            }
+            int i = 0;
+            for (Node<E> temp = head.getNext(); temp != null; temp = temp.getNext()) {
+                array[i++] = (T) temp.getElement();
+            }
+            if (array.length > i) {
+                array[i] = null;
+            }
+            return array;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * removes every element.
+     */
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            for (Node<E> trail = head, temp; (temp = trail.getNext()) != null; trail = temp) {
+                trail.setNext(trail);
+                temp.setElement(null);
+            }
+            head = last;
+            if (count.getAndSet(0) == capacity) {
+                notFull.signal();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * returns a weakly consistent iterator from head to tail.
+     *
+     * @return iterator of the queue
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /*
+     * links the node at the tail and returns the count before it; holds putLock.
+     * Wakes another producer if there is still space.
+     */
+    private int enqueue(Node<E> node) {
+        last.setNext(node);
+        last = node;
+        int before = count.getAndIncrement();
+        if (before + 1 < capacity) {
+            notFull.signal();
+        }
+        return before;
+    }
+
+    /*
+     * unlinks the first node and returns its element; holds takeLock.
+     * The old sentinel links to itself so iterators know it left the queue.
+     */
+    private E dequeue() {
+        Node<E> first = head.getNext();
+        head.setNext(head);
+        head = first;
+        E element = first.getElement();
+        first.setElement(null);
+        return element;
+    }
+
+    /*
+     * unlinks the node after trail; holds both locks. The node keeps its next link
+     * so an iterator standing on it can move on.
+     */
+    private void unlink(Node<E> node, Node<E> trail) {
+        node.setElement(null);
+        trail.setNext(node.getNext());
+        if (last == node) {
+            last = trail;
+        }
+        if (count.getAndDecrement() == capacity) {
+            notFull.signal();
+        }
+    }
+
+    /*
+     * wakes a waiting consumer; called by a producer which made the queue non-empty.
+     */
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /*
+     * wakes a waiting producer; called by a consumer which made the queue non-full.
+     */
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /*
+     * locks both ends, always the tail first.
+     */
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    /*
+     * unlocks both ends.
+     */
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+
+    /*
+     * Itr reads the next element ahead under both locks, so hasNext never blocks and
+     * next returns an element which was in the queue when it was read.
+     */
+    private class Itr implements Iterator<E> {
+        private Node<E> nextNode;
+        private E nextElement;
+        private Node<E> lastReturned;
+
+        /**
+         * constructs an iterator at the head of the queue.
+         */
+        public Itr() {
+            fullyLock();
+            try {
+                nextNode = head.getNext();
+                nextElement = (nextNode == null) ? null : nextNode.getElement();
+            } finally {
+                fullyUnlock();
+            }
+        }
+
+        /*
+         * returns true if there is another element.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        /*
+         * returns the element read ahead and reads the one after it.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        public E next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+
+            fullyLock();
+            try {
+                E element = nextElement;
+                lastReturned = nextNode;
+                nextNode = successor(nextNode);
+                nextElement = (nextNode == null) ? null : nextNode.getElement();
+                return element;
+            } finally {
+                fullyUnlock();
+            }
+        }
+
+        /*
+         * removes the last element returned if it is still in the queue.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            fullyLock();
+            try {
+                for (Node<E> trail = head, temp = trail.getNext(); temp != null; trail = temp, temp = temp.getNext()) {
+                    if (temp == lastReturned) {
+                        unlink(temp, trail);
+                        break;
+                    }
+                }
+                lastReturned = null;
+            } finally {
+                fullyUnlock();
+            }
+        }
+
+        /*
+         * returns the next live node after the node, which may have left the queue.
+         */
+        private Node<E> successor(Node<E> node) {
+            while (true) {
+                Node<E> next = node.getNext();
+                if (next == node) {
+                    return head.getNext();
+                }
+                if (next == null || next.getElement() != null) {
+                    return next;
+                }
+                node = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe, lock-free singly-linked list implementation of Collection interface.
+ * Elements are appended at the tail with compare-and-set, so producers never block
+ * one another. Removal first marks a node as deleted by clearing its element, then
+ * unlinks it lazily; a node is never unlinked while it is the last one, so an append
+ * racing with a removal cannot be lost.
+ * Iterators are weakly consistent: they never throw ConcurrentModificationException
+ * and see every element present for the whole traversal, and maybe later ones.
+ * Null elements are not permitted because a null element marks a deleted node.
+ * size() walks the list, so it is O(n) and only an estimate under concurrent change.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class ConcurrentLinkedList<E> implements Collection<E> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedList, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLinkedList.class, Node.class, "tail");
+
+    private final Node<E> head;
+    private volatile Node<E> tail;
+
+    /**
+     * constructs an empty list.
+     */
+    public ConcurrentLinkedList() {
+        head = new Node<E>(null);
+        tail = head;
+    }
+
+    /**
+     * constructs a list holding the elements of the collection in iteration order.
+     *
+     * @param collection - elements to add
+     */
+    public ConcurrentLinkedList(Collection<? extends E> collection) {
+        this();
+        addAll(collection);
+    }
+
+    /**
+     * appends the specified element to the end of the list without locking.
+     *
+     * @param element - non-null element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        Objects.requireNonNull(element);
+        Node<E> newNode = new Node<E>(element);
+        while (true) {
+            Node<E> last = tail;
+            Node<E> nextNode = last.next;
+            if (last != tail) {
+                continue;
+            }
+
+            if (nextNode == null) {
+                if (last.casNext(null, newNode)) {
+                    casTail(last, newNode);
+                    return true;
+                }
+            } else {
+                casTail(last, nextNode);
+            }
+        }
+    }
+
+    /**
+     * appends all of the elements in the specified collection to the end of the list.
+     * Other threads may append between the elements.
+     *
+     * @param collection type of collection
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        if (collection == this) {
+            throw new IllegalArgumentException();
+        }
+
+        boolean changed = false;
+        for (E element : collection) {
+            changed |= add(element);
+        }
+        return changed;
+    }
+
+    /**
+     * removes every element present when the call starts.
+     */
+    @Override
+    public void clear() {
+        removeNodesIf(element -> true);
+    }
+
+    /**
+     * returns true if the list contains at least one of the specified element.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        for (Node<E> temp = head.next; temp != null; temp = temp.next) {
+            E element = temp.element;
+            if (element != null && object.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * returns true if the list contains all of the specified elements in the collection.
+     *
+     * @param collection - collection of objects
+     * @return true or false
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        for (Object object : collection) {
+            if (!contains(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * returns true if this collection contains no element.
+     *
+     * @return true or false
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Node<E> temp = head.next; temp != null; temp = temp.next) {
+            if (temp.element != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * returns a weakly consistent iterator over the elements in the list.
+     *
+     * @return iterator of the list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * removes a single instance of the specified element from the list.
+     * The node is marked deleted by clearing its element, then unlinked.
+     *
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean remove(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        Node<E> pred = head;
+        Node<E> temp = head.next;
+        while (temp != null) {
+            E element = temp.element;
+            Node<E> nextNode = temp.next;
+            if (element != null && object.equals(element) && temp.casElement(element, null)) {
+                if (nextNode != null) {
+                    pred.casNext(temp, nextNode);
+                }
+                return true;
+            }
+
+            if (element == null && nextNode != null && pred.casNext(temp, nextNode)) {
+                temp = nextNode;
+                continue;
+            }
+            pred = temp;
+            temp = nextNode;
+        }
+        return false;
+    }
+
+    /**
+     * removes all of the list's elements that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Collection<?> lookup = LinkedList.hashedLookup(collection);
+        return removeNodesIf(element -> lookup.contains(element));
+    }
+
+    /**
+     * retains only the elements in the list that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Collection<?> lookup = LinkedList.hashedLookup(collection);
+        return removeNodesIf(element -> !lookup.contains(element));
+    }
+
+    /**
+     * removes all of the elements of the list that satisfy the given predicate.
+     *
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeNodesIf(filter);
+    }
+
+    /**
+     * returns the number of elements in this collection.
+     * The list is walked, so the result may be stale when other threads change it.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        int counter = 0;
+        for (Node<E> temp = head.next; temp != null; temp = temp.next) {
+            if (temp.element != null) {
+                counter++;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * returns an array containing the elements seen by one traversal of the list.
+     *
+     * @return object array
+     */
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * returns an array containing the elements seen by one traversal of the list;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @return generic type array
+     */
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return snapshot().toArray(array);
+    }
+
+    /**
+     * returns the elements of the list in square brackets.
+     *
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    /*
+     * copies the live elements seen by one traversal.
+     */
+    private List<E> snapshot() {
+        List<E> elements = new ArrayList<E>();
+        for (Node<E> temp = head.next; temp != null; temp = temp.next) {
+            E element = temp.element;
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /*
+     * marks every matching node deleted, then unlinks deleted nodes in the same walk.
+     */
+    private boolean removeNodesIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        Node<E> pred = head;
+        Node<E> temp = head.next;
+        while (temp != null) {
+            E element = temp.element;
+            if (element != null && filter.test(element) && temp.casElement(element, null)) {
+                removed = true;
+                element = null;
+            }
+
+            Node<E> nextNode = temp.next;
+            if (element == null && nextNode != null && pred.casNext(temp, nextNode)) {
+                temp = nextNode;
+                continue;
+            }
+            pred = temp;
+            temp = nextNode;
+        }
+        return removed;
+    }
+
+    private boolean casTail(Node<E> expect, Node<E> update) {
+        return TAIL.compareAndSet(this, expect, update);
+    }
+
+    /*
+     * Itr reads one element ahead so hasNext stays true for an element
+     * which another thread removes after hasNext returned.
+     */
+    private class Itr implements Iterator<E> {
+        private Node<E> nextNode;
+        private E nextElement;
+        private Node<E> lastReturned;
+
+        /**
+         * constructs an iterator positioned before the first live element.
+         */
+        Itr() {
+            advance(head);
+        }
+
+        /*
+         * moves to the first live node after the given node.
+         */
+        private void advance(Node<E> from) {
+            for (Node<E> temp = from.next; temp != null; temp = temp.next) {
+                E element = temp.element;
+                if (element != null) {
+                    nextNode = temp;
+                    nextElement = element;
+                    return;
+                }
+            }
+            nextNode = null;
+            nextElement = null;
+        }
+
+        /*
+         * returns true if there are more elements.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        public E next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+
+            E element = nextElement;
+            lastReturned = nextNode;
+            advance(nextNode);
+            return element;
+        }
+
+        /*
+         * marks the node last returned by next deleted, unless another thread already did.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            E element = lastReturned.element;
+            if (element != null) {
+                lastReturned.casElement(element, null);
+            }
+            lastReturned = null;
+        }
+    }
+
+    /*
+     * Node class has an element and a reference to the next node.
+     * Both fields are updated with compare-and-set; a null element marks a deleted node.
+     */
+    private static class Node<E> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Object> ELEMENT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "element");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private volatile E element;
+        private volatile Node<E> next;
+
+        /**
+         * construct a node which holds an element.
+         * @param element type
+         */
+        Node(E element) {
+            this.element = element;
+        }
+
+        boolean casElement(E expect, E update) {
+            return ELEMENT.compareAndSet(this, expect, update);
+        }
+
+        boolean casNext(Node<E> expect, Node<E> update) {
+            return NEXT.compareAndSet(this, expect, update);
+        }
+    }
+}
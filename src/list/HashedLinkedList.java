@@ -0,0 +1,446 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Doubly-linked list implementation of Collection interface which keeps a hash index
+ * from each distinct element to the nodes holding it, like an insertion-ordered multiset.
+ * contains, remove(Object), containsAll, removeAll and retainAll cost O(1) per element
+ * instead of a scan, while iteration still follows insertion order.
+ * Elements must not change their hashCode while they are in the list.
+ *
+ * The index costs memory. Every node carries two more references, nextSame and
+ * previousSame, which chain the nodes of equal elements, and every distinct element
+ * costs one HashMap entry and table slot. With compressed oops a node takes 32 bytes
+ * instead of 24 and a HashMap entry 32 more plus its slot, so NodeMemoryReport measures
+ * about 72 bytes per distinct element against 24 for LinkedList. Duplicates only pay
+ * for their node.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class HashedLinkedList<E> implements Collection<E> {
+    private final Map<Object, Node<E>> index;
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * constructs an empty list.
+     */
+    public HashedLinkedList() {
+        index = new HashMap<Object, Node<E>>();
+    }
+
+    /**
+     * constructs a list holding the elements of the collection in iteration order.
+     *
+     * @param collection - elements to add
+     */
+    public HashedLinkedList(Collection<? extends E> collection) {
+        index = new HashMap<Object, Node<E>>(Math.max(16, (int) (collection.size() / .75f) + 1));
+        addAll(collection);
+    }
+
+    /**
+     * appends the specified element to the end of the list.
+     *
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        Node<E> newNode = new Node<E>(element);
+        newNode.previous = tail;
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+
+        Node<E> first = index.get(element);
+        if (first == null) {
+            newNode.previousSame = newNode;
+            index.put(element, newNode);
+        } else {
+            Node<E> last = first.previousSame;
+            last.nextSame = newNode;
+            newNode.previousSame = last;
+            first.previousSame = newNode;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * appends all of the elements in the specified collection to the end of the list.
+     *
+     * @param collection type of collection
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        Object[] elements = collection.toArray();
+        for (Object element : elements) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            add(e);
+        }
+        return elements.length > 0;
+    }
+
+    /**
+     * Removes all of the elements from the list.
+     */
+    @Override
+    public void clear() {
+        index.clear();
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * returns true if the list contains at least one of the specified element.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        return index.containsKey(object);
+    }
+
+    /**
+     * returns true if the list contains all of the specified elements in the collection.
+     *
+     * @param collection - collection of objects
+     * @return true or false
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        for (Object object : collection) {
+            if (!index.containsKey(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * returns the number of times the specified element occurs in the list.
+     *
+     * @param object - search object
+     * @return number of equal elements
+     */
+    public int occurrences(Object object) {
+        int counter = 0;
+        for (Node<E> temp = index.get(object); temp != null; temp = temp.nextSame) {
+            counter++;
+        }
+        return counter;
+    }
+
+    /**
+     * returns true if this collection contains no element.
+     *
+     * @return true or false
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * returns an iterator over the elements in insertion order.
+     *
+     * @return iterator of the list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * removes the first occurrence of the specified element from the list.
+     *
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean remove(Object object) {
+        Node<E> first = index.get(object);
+        if (first == null) {
+            return false;
+        }
+
+        unlink(first);
+        return true;
+    }
+
+    /**
+     * removes all of the list's elements that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        if (collection == this) {
+            boolean removed = size > 0;
+            clear();
+            return removed;
+        }
+
+        boolean removed = false;
+        for (Object object : collection) {
+            Node<E> temp = index.get(object);
+            while (temp != null) {
+                Node<E> nextSame = temp.nextSame;
+                unlink(temp);
+                temp = nextSame;
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * retains only the elements in the list that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        Collection<?> lookup = (collection instanceof Set) ? collection : new HashSet<Object>(collection);
+        return removeIf(element -> !lookup.contains(element));
+    }
+
+    /**
+     * removes all of the elements of the list that satisfy the given predicate.
+     *
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Node<E> temp = head;
+        while (temp != null) {
+            Node<E> nextNode = temp.next;
+            if (filter.test(temp.element)) {
+                unlink(temp);
+                removed = true;
+            }
+            temp = nextNode;
+        }
+        return removed;
+    }
+
+    /**
+     * returns the number of elements in this collection.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection.
+     *
+     * @return object array
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+        for (Node<E> temp = head; temp != null; temp = temp.next) {
+            array[i++] = temp.element;
+        }
+        return array;
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @return generic type array
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        if (array.length < size) {
+            array = Arrays.copyOf(array, size);
+        }
+
+        int i = 0;
+        for (Node<E> temp = head; temp != null; temp = temp.next) {
+            array[i++] = (T) temp.element;
+        }
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * returns the elements of the list in square brackets.
+     *
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Node<E> temp = head; temp != null; temp = temp.next) {
+            builder.append(temp.element);
+            if (temp.next != null) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /*
+     * unlinks the node from the list and from the chain of equal elements.
+     * The first node of a chain is the one in the index, and its previousSame
+     * points at the last node so appending to the chain is constant time.
+     */
+    private void unlink(Node<E> node) {
+        Node<E> prevNode = node.previous;
+        Node<E> nextNode = node.next;
+        if (prevNode == null) {
+            head = nextNode;
+        } else {
+            prevNode.next = nextNode;
+        }
+        if (nextNode == null) {
+            tail = prevNode;
+        } else {
+            nextNode.previous = prevNode;
+        }
+
+        Node<E> nextSame = node.nextSame;
+        Node<E> first = index.get(node.element);
+        if (first == node) {
+            if (nextSame == null) {
+                index.remove(node.element);
+            } else {
+                nextSame.previousSame = node.previousSame;
+                index.put(node.element, nextSame);
+            }
+        } else {
+            Node<E> prevSame = node.previousSame;
+            prevSame.nextSame = nextSame;
+            if (nextSame == null) {
+                first.previousSame = prevSame;
+            } else {
+                nextSame.previousSame = prevSame;
+            }
+        }
+
+        node.next = null;
+        node.previous = null;
+        node.nextSame = null;
+        node.previousSame = null;
+        size--;
+        modCount++;
+    }
+
+    /*
+     * Itr walks the list in insertion order and fails fast on outside changes.
+     */
+    private class Itr implements Iterator<E> {
+        private Node<E> nextNode = head;
+        private Node<E> lastReturned;
+        private int expectedModCount = modCount;
+
+        /*
+         * returns true if there are more elements.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            return lastReturned.element;
+        }
+
+        /*
+         * removes the element last returned by next.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /*
+     * Node class holds an element, its neighbours in the list and its
+     * neighbours among the nodes holding an equal element.
+     */
+    private static class Node<E> {
+        private final E element;
+        private Node<E> next;
+        private Node<E> previous;
+        private Node<E> nextSame;
+        private Node<E> previousSame;
+
+        /**
+         * construct a node which holds an element.
+         * @param element type
+         */
+        Node(E element) {
+            this.element = element;
+        }
+    }
+}
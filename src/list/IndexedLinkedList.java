@@ -0,0 +1,534 @@
+package list;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Doubly-linked list with an indexable skip list above its node chain, for lists
+ * which need both insertion in the middle and access by position.
+ * Every node is linked to its neighbours as in LinkedList, and a random quarter of
+ * the nodes also link to the next node a level up, a quarter of those another level
+ * up, and so on. Each of these links records its span, the number of positions it
+ * skips, so get, set, add(int, E) and remove(int) find a position in expected
+ * O(log n) steps instead of a walk from the head.
+ * Appending stays O(1), since the list remembers the last node of every level,
+ * and iterators walk the chain in both directions one step at a time.
+ *
+ * The tower costs memory: every node holds an array of forward links and an array
+ * of spans, about 1.33 entries each on average.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class IndexedLinkedList<E> extends AbstractList<E> {
+    /*
+     * levels of the tower; with a quarter of the nodes promoted per level
+     * this indexes lists of any int size.
+     */
+    private static final int MAX_LEVEL = 16;
+
+    private final Node<E> head;
+    private final Node<E>[] last;
+    private final int[] lastIndex;
+    private final Node<E>[] update;
+    private final int[] rank;
+    private int level;
+    private int size;
+
+    /**
+     * constructs an empty list.
+     */
+    public IndexedLinkedList() {
+        head = new Node<E>(null, MAX_LEVEL);
+        last = newNodeArray(MAX_LEVEL);
+        lastIndex = new int[MAX_LEVEL];
+        update = newNodeArray(MAX_LEVEL);
+        rank = new int[MAX_LEVEL];
+        reset();
+    }
+
+    /**
+     * constructs a list holding the elements of the collection in iteration order.
+     *
+     * @param collection - elements to add
+     */
+    public IndexedLinkedList(Collection<? extends E> collection) {
+        this();
+        addAll(collection);
+    }
+
+    /**
+     * appends the specified element to the end of the list in constant expected time.
+     *
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        Node<E> node = new Node<E>(element, randomHeight());
+        raiseLevel(node.height());
+        node.previous = (size == 0) ? null : last[0];
+        for (int i = 0; i < node.height(); i++) {
+            last[i].next[i] = node;
+            last[i].span[i] = size - lastIndex[i];
+            last[i] = node;
+            lastIndex[i] = size;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * inserts the specified element at the specified position.
+     *
+     * @param index - position of the new element
+     * @param element - type of element
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBounds(index));
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        findPredecessors(index);
+        Node<E> node = new Node<E>(element, randomHeight());
+        raiseLevel(node.height());
+        for (int i = 0; i < level; i++) {
+            Node<E> before = update[i];
+            if (i < node.height()) {
+                node.next[i] = before.next[i];
+                if (node.next[i] == null) {
+                    last[i] = node;
+                    lastIndex[i] = index;
+                } else {
+                    node.span[i] = rank[i] + before.span[i] + 1 - index;
+                    lastIndex[i]++;
+                }
+                before.next[i] = node;
+                before.span[i] = index - rank[i];
+            } else if (before.next[i] != null) {
+                before.span[i]++;
+                lastIndex[i]++;
+            }
+        }
+        node.previous = (update[0] == head) ? null : update[0];
+        node.next[0].previous = node;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * returns the element at the specified position.
+     *
+     * @param index - position of the element
+     * @return the element
+     */
+    @Override
+    public E get(int index) {
+        return node(index).element;
+    }
+
+    /**
+     * replaces the element at the specified position.
+     *
+     * @param index - position of the element
+     * @param element - new element
+     * @return the element previously at the position
+     */
+    @Override
+    public E set(int index, E element) {
+        Node<E> node = node(index);
+        E oldElement = node.element;
+        node.element = element;
+        return oldElement;
+    }
+
+    /**
+     * removes the element at the specified position.
+     *
+     * @param index - position of the element
+     * @return the removed element
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        findPredecessors(index);
+        Node<E> node = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            Node<E> before = update[i];
+            if (before.next[i] == node) {
+                before.next[i] = node.next[i];
+                if (node.next[i] == null) {
+                    last[i] = before;
+                    lastIndex[i] = rank[i];
+                } else {
+                    before.span[i] += node.span[i] - 1;
+                    lastIndex[i]--;
+                }
+            } else if (before.next[i] != null) {
+                before.span[i]--;
+                lastIndex[i]--;
+            }
+        }
+        if (node.next[0] != null) {
+            node.next[0].previous = node.previous;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        modCount++;
+        return node.element;
+    }
+
+    /**
+     * gets the first element in constant time.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return head.next[0].element;
+    }
+
+    /**
+     * gets the last element in constant time.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return last[0].element;
+    }
+
+    /**
+     * returns the number of elements in the list.
+     *
+     * @return the size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all of the elements from the list.
+     */
+    @Override
+    public void clear() {
+        reset();
+        modCount++;
+    }
+
+    /**
+     * returns an iterator over the elements which walks the node chain.
+     *
+     * @return iterator of the list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * returns a list iterator which starts at the specified position; it walks
+     * the node chain, so each step takes constant time.
+     *
+     * @param index - position of the first element returned by next
+     * @return ListIterator of the list
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBounds(index));
+        }
+        return new ListItr(index);
+    }
+
+    /*
+     * empties the tower and points the last node of every level at the head.
+     */
+    private void reset() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+            last[i] = head;
+            lastIndex[i] = -1;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /*
+     * returns the node at the index, dropping down the tower from the top level.
+     */
+    private Node<E> node(int index) {
+        checkElementIndex(index);
+        if (index == size - 1) {
+            return last[0];
+        }
+
+        Node<E> temp = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (temp.next[i] != null && position + temp.span[i] <= index) {
+                position += temp.span[i];
+                temp = temp.next[i];
+            }
+        }
+        return temp;
+    }
+
+    /*
+     * records, for every level in use, the last node before the index and its position.
+     */
+    private void findPredecessors(int index) {
+        Node<E> temp = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (temp.next[i] != null && position + temp.span[i] < index) {
+                position += temp.span[i];
+                temp = temp.next[i];
+            }
+            update[i] = temp;
+            rank[i] = position;
+        }
+    }
+
+    /*
+     * puts levels up to the height into use; until a node reaches them
+     * their predecessor and last node are the head.
+     */
+    private void raiseLevel(int height) {
+        for (; level < height; level++) {
+            update[level] = head;
+            rank[level] = -1;
+        }
+    }
+
+    /*
+     * returns a tower height of 1 with probability 3/4, 2 with 3/16 and so on.
+     */
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Math.min(MAX_LEVEL, 1 + Integer.numberOfTrailingZeros(bits) / 2);
+    }
+
+    /*
+     * returns a new array of node references of the given length.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E>[] newNodeArray(int length) {
+        return (Node<E>[]) new Node<?>[length];
+    }
+
+    /*
+     * checks that the index points at an existing element.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBounds(index));
+        }
+    }
+
+    /*
+     * builds the message of an IndexOutOfBoundsException.
+     */
+    private String outOfBounds(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /*
+     * ListItr walks the node chain and edits the list through its positions.
+     */
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * constructs an iterator whose first call to next returns the element at index.
+         * @param index position of the cursor
+         */
+        public ListItr(int index) {
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
+        /*
+         * returns true if there are more elements in the forward direction.
+         * @see java.util.ListIterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.ListIterator#next()
+         */
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = next.next[0];
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        /*
+         * returns true if there are more elements in the reverse direction.
+         * @see java.util.ListIterator#hasPrevious()
+         */
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /*
+         * returns the previous element and moves the cursor position backward.
+         * @see java.util.ListIterator#previous()
+         */
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = (next == null) ? last[0] : next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        /*
+         * returns the index of the element returned by next.
+         * @see java.util.ListIterator#nextIndex()
+         */
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        /*
+         * returns the index of the element returned by previous.
+         * @see java.util.ListIterator#previousIndex()
+         */
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /*
+         * removes the element last returned by next or previous.
+         * @see java.util.ListIterator#remove()
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (next == lastReturned) {
+                next = lastReturned.next[0];
+                IndexedLinkedList.this.remove(nextIndex);
+            } else {
+                nextIndex--;
+                IndexedLinkedList.this.remove(nextIndex);
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * replaces the element last returned by next or previous.
+         * @see java.util.ListIterator#set(java.lang.Object)
+         */
+        @Override
+        public void set(E element) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            lastReturned.element = element;
+        }
+
+        /*
+         * inserts the element in front of the cursor.
+         * @see java.util.ListIterator#add(java.lang.Object)
+         */
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            IndexedLinkedList.this.add(nextIndex, element);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * fails fast when the list was changed other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /*
+     * Node class holds an element, its previous node in the chain, and for every
+     * level of its tower the next node at that level and the positions it spans.
+     * Level 0 is the plain chain, where the span is always 1.
+     */
+    private static class Node<E> {
+        private E element;
+        private Node<E> previous;
+        private final Node<E>[] next;
+        private final int[] span;
+
+        /**
+         * construct a node which holds an element under a tower of the given height.
+         * @param element type
+         * @param height number of levels
+         */
+        Node(E element, int height) {
+            this.element = element;
+            next = newNodeArray(height);
+            span = new int[height];
+        }
+
+        /*
+         * returns the number of levels of the tower.
+         */
+        private int height() {
+            return next.length;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Doubly-linked list of primitive int values.
+ * Values and links live in parallel arrays indexed by slot number,
+ * so neither adding nor iterating boxes a value or allocates a node.
+ * Removed slots are kept on a free list and reused by later adds.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class IntLinkedList {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    private int[] values;
+    private int[] next;
+    private int[] previous;
+    private int head = NONE;
+    private int tail = NONE;
+    private int free = NONE;
+    private int used;
+    private int size;
+    private int modCount;
+
+    /**
+     * constructs an empty list.
+     */
+    public IntLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructs an empty list with room for capacity values before it grows.
+     *
+     * @param capacity - initial number of slots
+     */
+    public IntLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("negative capacity: " + capacity);
+        }
+        values = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+    }
+
+    /**
+     * appends the specified value to the end of the list.
+     *
+     * @param value - value to add
+     * @return true
+     */
+    public boolean add(int value) {
+        int slot = allocate();
+        values[slot] = value;
+        next[slot] = NONE;
+        previous[slot] = tail;
+        if (tail == NONE) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * appends all of the specified values to the end of the list.
+     *
+     * @param array - values to add
+     * @return true if the list changed
+     */
+    public boolean addAll(int... array) {
+        ensureCapacity(size + array.length);
+        for (int value : array) {
+            add(value);
+        }
+        return array.length > 0;
+    }
+
+    /**
+     * Removes all of the values from the list. The slot arrays are kept for reuse.
+     */
+    public void clear() {
+        head = NONE;
+        tail = NONE;
+        free = NONE;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * returns true if the list contains the specified value.
+     *
+     * @param value - search value
+     * @return true or false
+     */
+    public boolean contains(int value) {
+        return find(value) != NONE;
+    }
+
+    /**
+     * returns true if this list contains no value.
+     *
+     * @return true or false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * removes the first occurrence of the specified value from the list.
+     *
+     * @param value that needs to be removed
+     * @return true or false
+     */
+    public boolean remove(int value) {
+        int slot = find(value);
+        if (slot == NONE) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * returns the number of values in this list.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * returns an array containing all of the values in list order.
+     *
+     * @return int array
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        int index = 0;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            array[index++] = values[slot];
+        }
+        return array;
+    }
+
+    /**
+     * performs the action for each value in list order.
+     *
+     * @param action - action to perform
+     */
+    public void forEach(IntConsumer action) {
+        int expectedModCount = modCount;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            action.accept(values[slot]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * returns a primitive iterator over the values in list order.
+     *
+     * @return iterator of the list
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * returns a spliterator over the values in list order.
+     *
+     * @return spliterator of the list
+     */
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * returns a sequential stream over the values in list order.
+     *
+     * @return stream of the list
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * returns the values of the list in square brackets.
+     *
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /*
+     * returns the slot holding the first occurrence of the value, or NONE.
+     */
+    private int find(int value) {
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            if (values[slot] == value) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    /*
+     * detaches the slot from its neighbours and puts it on the free list.
+     */
+    private void unlink(int slot) {
+        int nextSlot = next[slot];
+        int prevSlot = previous[slot];
+        if (prevSlot == NONE) {
+            head = nextSlot;
+        } else {
+            next[prevSlot] = nextSlot;
+        }
+
+        if (nextSlot == NONE) {
+            tail = prevSlot;
+        } else {
+            previous[nextSlot] = prevSlot;
+        }
+
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+    }
+
+    /*
+     * takes a slot from the free list, or the next unused slot.
+     */
+    private int allocate() {
+        if (free != NONE) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+
+        if (used == values.length) {
+            ensureCapacity(used + 1);
+        }
+        return used++;
+    }
+
+    /*
+     * grows the slot arrays so they can hold at least capacity values.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= values.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, values.length + (values.length >> 1) + 1);
+        values = Arrays.copyOf(values, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        previous = Arrays.copyOf(previous, newCapacity);
+    }
+
+    /*
+     * Itr walks the slot links without boxing the values.
+     */
+    private class Itr implements PrimitiveIterator.OfInt {
+        private int cursor = head;
+        private int lastReturned = NONE;
+        private int expectedModCount = modCount;
+
+        /*
+         * returns true if there are more values.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return cursor != NONE;
+        }
+
+        /*
+         * returns the next value and advances the cursor position.
+         * @see java.util.PrimitiveIterator.OfInt#nextInt()
+         */
+        @Override
+        public int nextInt() {
+            checkForComodification();
+            if (cursor == NONE) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            cursor = next[cursor];
+            return values[lastReturned];
+        }
+
+        /*
+         * removes the value last returned by nextInt.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NONE) {
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * fails fast when the list was changed other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -1,24 +1,89 @@
 package list;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import list.metrics.ListMetrics;
+import list.metrics.ListMetrics.Operation;
 
 /**
- * Doubly-linked list implementation of Collection interface.
+ * Doubly-linked list implementation of List and Deque interfaces.
  * This list can be created with any type, 
  * and same type of value can be added to the list as a collection
  * The list can also be iterated forward and backward.
+ * Positional access walks from whichever end of the list is nearer to the index,
+ * and every operation at the head or the tail takes constant time.
+ * The list is Serializable; list.io.LinkedListSerializer writes a more compact
+ * binary snapshot through a pluggable element codec.
  * 
  * @author Tzu Hsiang Chen (Jason)
  * @version 1.1
  * @since March 23, 2017
  *
  */
-public class LinkedList<E> implements Collection<E> {
-    private Node head;
-    private Node tail;
+public class LinkedList<E> implements List<E>, Deque<E>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * system property which turns on size verification for newly created lists.
+     * When it is "true", every mutation walks the list and compares the
+     * real number of nodes against the cached size.
+     */
+    public static final String VERIFY_SIZE_PROPERTY = "list.LinkedList.verifySize";
+
+    /*
+     * collections larger than this are copied into a HashSet before bulk removal.
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
+
+    /*
+     * growth step and upper bound of the arrays a spliterator splits off.
+     */
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    /*
+     * smallest run of nodes a parallel bulk operation hands to one fork/join task,
+     * and how many runs it aims for per thread of the common pool.
+     */
+    private static final int MIN_SEGMENT = 1 << 12;
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private transient Node<E> head;
+    private transient Node<E> tail;
+    private transient int size;
+    private transient int modCount;
+    private final boolean verifySize;
+    private transient Node<E> pool;
+    private transient int poolSize;
+    private int poolCapacity;
+    private transient boolean shared;
+    private transient ListMetrics metrics;
     
     /**
      * constructs default LinkedList which does not have any node.
@@ -26,6 +91,8 @@ public class LinkedList<E> implements Collection<E> {
     public LinkedList() {
         head = null;
         tail = null;
+        size = 0;
+        verifySize = Boolean.getBoolean(VERIFY_SIZE_PROPERTY);
     }
 
     /**
@@ -34,6 +101,7 @@ public class LinkedList<E> implements Collection<E> {
      * @param element type of element
      */
     public LinkedList(E element) {
+        this();
         add(element);
     }
 
@@ -42,7 +110,7 @@ public class LinkedList<E> implements Collection<E> {
      * 
      * @return the head
      */
-    public Node getHead() {
+    public Node<E> getHead() {
         return head;
     }
 
@@ -51,16 +119,80 @@ public class LinkedList<E> implements Collection<E> {
      * 
      * @return the tail
      */
-    public Node getTail() {
+    public Node<E> getTail() {
         return tail;
     }
     
+    /**
+     * gets the element held by the head of the list.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
     public E getHeadElement() {
-        return head.getElement();
+        return getFirst();
     }
     
+    /**
+     * gets the element held by the tail of the list.
+     * 
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
     public E getTailElement() {
-        return tail.getElement();
+        return getLast();
+    }
+
+    /**
+     * gets the maximum number of unlinked nodes the list keeps for reuse.
+     * 
+     * @return the node pool capacity, 0 when pooling is off
+     */
+    public int getNodePoolCapacity() {
+        return poolCapacity;
+    }
+
+    /**
+     * sets the maximum number of unlinked nodes the list keeps for reuse.
+     * Removed nodes are cleared and kept in the pool until it is full,
+     * and adds take nodes from the pool before allocating new ones,
+     * so steady add and remove churn allocates nothing.
+     * A capacity of 0 turns pooling off and releases the pooled nodes.
+     * 
+     * @param capacity - maximum number of pooled nodes
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("negative pool capacity: " + capacity);
+        }
+        
+        poolCapacity = capacity;
+        while (poolSize > capacity) {
+            Node<E> node = pool;
+            pool = node.getNext();
+            node.setNext(null);
+            poolSize--;
+        }
+    }
+
+    /**
+     * gets the metrics the list records its operations into.
+     * 
+     * @return the metrics, null when recording is off
+     */
+    public ListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * sets the metrics the list records its operations into.
+     * Recording is off by default and costs a null check per operation;
+     * the metrics are not serialized with the list.
+     * 
+     * @param metrics - metrics to record into, null turns recording off
+     */
+    public void setMetrics(ListMetrics metrics) {
+        this.metrics = metrics;
     }
 
     /**
@@ -71,7 +203,18 @@ public class LinkedList<E> implements Collection<E> {
      */
     @Override
     public boolean add(E element) {
-        Node newNode = new Node(element);
+        long start = startTime();
+        linkLast(element);
+        record(Operation.ADD, 0, start);
+        return true;
+    }
+
+    /*
+     * appends the element and returns its node, so callers in the package
+     * such as LruCache can later move or unlink it in constant time.
+     */
+    Node<E> linkLast(E element) {
+        Node<E> newNode = newNode(element);
         if (head == null) {
             head = newNode;
             tail = newNode;
@@ -80,22 +223,269 @@ public class LinkedList<E> implements Collection<E> {
             newNode.setPrevious(tail);
         }
         tail = newNode;
-        return true;
+        size++;
+        modCount++;
+        checkSize();
+        return newNode;
+    }
+
+    /*
+     * relinks a node of this list as its tail in constant time.
+     * It does not copy a chain shared with a snapshot, so it is only for
+     * lists which are never snapshot.
+     */
+    void moveToTail(Node<E> node) {
+        if (node == tail) {
+            return;
+        }
+
+        Node<E> nextNode = node.getNext();
+        Node<E> prevNode = node.getPrevious();
+        if (prevNode == null) {
+            head = nextNode;
+        } else {
+            prevNode.setNext(nextNode);
+        }
+        nextNode.setPrevious(prevNode);
+
+        node.setPrevious(tail);
+        node.setNext(null);
+        tail.setNext(node);
+        tail = node;
+        modCount++;
+    }
+
+    /**
+     * inserts the specified element at the specified position in the list.
+     * 
+     * @param index - position of the new element
+     * @param element - type of element
+     */
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        long start = startTime();
+        if (index == size) {
+            linkLast(element);
+            record(Operation.ADD_AT, 0, start);
+        } else {
+            int walked = walkLength(index);
+            detach();
+            linkBefore(element, node(index));
+            checkSize();
+            record(Operation.ADD_AT, walked, start);
+        }
+    }
+
+    /*
+     * inserts a new node holding the element in front of the successor node.
+     */
+    private void linkBefore(E element, Node<E> successor) {
+        Node<E> newNode = newNode(element);
+        Node<E> prevNode = successor.getPrevious();
+        newNode.setNext(successor);
+        newNode.setPrevious(prevNode);
+        successor.setPrevious(newNode);
+        if (prevNode == null) {
+            head = newNode;
+        } else {
+            prevNode.setNext(newNode);
+        }
+        size++;
+        modCount++;
     }
 
     /**
      * appends all of the elements in the specified collection to the end of the list.
+     * The new nodes are chained on their own and linked to the tail in one step;
+     * lists with random access are read by index instead of through an iterator.
      * 
      * @param collection type of collection
-     * @return true if everything add successfully; otherwise, false.
+     * @return true if the list changed
      */
     @Override
     public boolean addAll(Collection<? extends E> collection) {
-        for (E element : collection) {
-            if (!this.add(element)) {
+        if (collection == this) {
+            @SuppressWarnings("unchecked")
+            E[] elements = (E[]) toArray();
+            return addAll(elements);
+        }
+        
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<? extends E> list = (List<? extends E>) collection;
+            int count = list.size();
+            if (count == 0) {
                 return false;
             }
+            
+            Node<E> first = newNode(list.get(0));
+            Node<E> last = first;
+            for (int i = 1; i < count; i++) {
+                last = chain(last, list.get(i));
+            }
+            linkChain(first, last, count);
+            return true;
+        }
+        
+        Iterator<? extends E> it = collection.iterator();
+        if (!it.hasNext()) {
+            return false;
+        }
+        
+        Node<E> first = newNode(it.next());
+        Node<E> last = first;
+        int count = 1;
+        while (it.hasNext()) {
+            last = chain(last, it.next());
+            count++;
+        }
+        linkChain(first, last, count);
+        return true;
+    }
+
+    /**
+     * appends all of the elements in the array to the end of the list,
+     * chaining the new nodes before linking them to the tail.
+     * 
+     * @param elements - elements to append
+     * @return true if the list changed
+     */
+    public boolean addAll(E[] elements) {
+        if (elements.length == 0) {
+            return false;
+        }
+        
+        Node<E> first = newNode(elements[0]);
+        Node<E> last = first;
+        for (int i = 1; i < elements.length; i++) {
+            last = chain(last, elements[i]);
+        }
+        linkChain(first, last, elements.length);
+        return true;
+    }
+
+    /**
+     * moves every node of the other list to the end of this list in constant time
+     * and leaves the other list empty. No node is copied or allocated.
+     * 
+     * @param other - list whose nodes are moved
+     * @return true if the list changed
+     * @throws IllegalArgumentException if other is this list
+     */
+    @SuppressWarnings("unchecked")
+    public boolean splice(LinkedList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot splice a list onto itself");
+        }
+        if (other.head == null) {
+            return false;
+        }
+        
+        linkChain((Node<E>) other.head, (Node<E>) other.tail, other.size);
+        shared |= other.shared;
+        other.shared = false;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.modCount++;
+        return true;
+    }
+
+    /**
+     * returns an immutable snapshot of the list in constant time.
+     * The snapshot shares the nodes of the list instead of copying them.
+     * Appending, adding at the head and removing from the head keep sharing,
+     * since they never change a node the snapshot reads; any other change
+     * copies the chain once before it is made and ends the sharing.
+     * The snapshot can be read from any thread without locking.
+     * 
+     * @return snapshot holding the current elements in order
+     */
+    public PersistentLinkedList<E> snapshot() {
+        if (head == null) {
+            return PersistentLinkedList.empty();
+        }
+        
+        shared = true;
+        return PersistentLinkedList.over(head, tail, size);
+    }
+
+    /*
+     * copies a chain shared with a snapshot so the list can change its nodes.
+     */
+    private void detach() {
+        if (!shared) {
+            return;
+        }
+        
+        shared = false;
+        if (head == null) {
+            return;
+        }
+        
+        Node<E> first = new Node<E>(head.getElement());
+        Node<E> last = first;
+        for (Node<E> temp = head.getNext(); temp != null; temp = temp.getNext()) {
+            last = chain(last, temp.getElement());
+        }
+        head = first;
+        tail = last;
+        modCount++;
+    }
+
+    /*
+     * creates a node for the element and links it after last; the chain stays unpublished.
+     */
+    private Node<E> chain(Node<E> last, E element) {
+        Node<E> node = newNode(element);
+        node.setPrevious(last);
+        last.setNext(node);
+        return node;
+    }
+
+    /*
+     * links a chain of count nodes from first to last after the tail.
+     */
+    private void linkChain(Node<E> first, Node<E> last, int count) {
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.setNext(first);
+            first.setPrevious(tail);
+        }
+        tail = last;
+        size += count;
+        modCount++;
+        checkSize();
+    }
+
+    /**
+     * inserts all of the elements in the specified collection at the specified position.
+     * The elements are copied first, so the collection may be this list.
+     * 
+     * @param index - position of the first inserted element
+     * @param collection type of collection
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        checkPositionIndex(index);
+        if (index == size) {
+            return addAll(collection);
+        }
+        
+        @SuppressWarnings("unchecked")
+        E[] elements = (E[]) collection.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        
+        detach();
+        Node<E> successor = node(index);
+        for (E element : elements) {
+            linkBefore(element, successor);
         }
+        checkSize();
         return true;
     }
 
@@ -105,8 +495,25 @@ public class LinkedList<E> implements Collection<E> {
      */
     @Override
     public void clear() {
+        long start = startTime();
+        int dropped = size;
+        Node<E> temp = shared ? null : head;
+        shared = false;
+        while (temp != null && poolSize < poolCapacity) {
+            Node<E> nextNode = temp.getNext();
+            recycle(temp);
+            temp = nextNode;
+        }
+        
         head = null;
         tail = null;
+        size = 0;
+        modCount++;
+        checkSize();
+        if (metrics != null) {
+            metrics.nodesUnlinked(dropped);
+            record(Operation.CLEAR, 0, start);
+        }
     }
 
     /**
@@ -117,14 +524,19 @@ public class LinkedList<E> implements Collection<E> {
      */
     @Override
     public boolean contains(Object object) {
-        Node temp = head;
+        long start = startTime();
+        int visited = 0;
+        Node<E> temp = head;
         while (temp != null) {
-            if (temp.element.equals(object)) {
+            if (Objects.equals(object, temp.element)) {
+                record(Operation.CONTAINS, visited, start);
                 return true;
             }
             
+            visited++;
             temp = temp.getNext();
         }
+        record(Operation.CONTAINS, visited, start);
         return false;
     }
 
@@ -161,121 +573,7 @@ public class LinkedList<E> implements Collection<E> {
      */
     @Override
     public ListIterator<E> iterator() {
-        return new ListIterator<E>() {     
-            private Node current = null;
-            private int previousIndex = -1;
-            private int nextIndex = 0;
-            
-            /*
-             * returns true if this list iterator has more elements 
-             * when traversing the list in the forward direction.
-             * @see java.util.ListIterator#hasNext()
-             */
-            @Override
-            public boolean hasNext() {
-                return current != tail;
-            }
-
-            /*
-             * returns the next element in the list and advances the cursor position.
-             * @see java.util.ListIterator#next()
-             */
-            @Override
-            public E next() {
-                if (current == null) {
-                    current = head;
-                    nextIndex++;
-                    previousIndex++;
-                    return current.getElement();
-                }
-                
-                if (!hasNext()) {
-                    throw new NoSuchElementException();
-                }
-                
-                current = current.getNext();
-                nextIndex++;
-                previousIndex++;
-                return current.getElement();
-            }
-
-            /*
-             * this method is not supported.
-             * @see java.util.ListIterator#add(java.lang.Object)
-             */
-            @Override
-            public void add(E element) {
-                throw new UnsupportedOperationException();
-            }
-
-            /*
-             * returns true if this list iterator has more elements 
-             * when traversing the list in the reverse direction.
-             * @see java.util.ListIterator#hasPrevious()
-             */
-            @Override
-            public boolean hasPrevious() {
-                return current != head;
-            }
-
-            /*
-             * returns the next index of the element.
-             * @see java.util.ListIterator#nextIndex()
-             */
-            @Override
-            public int nextIndex() {
-                return nextIndex;
-            }
-
-            /*
-             * returns the previous index of the element.
-             * @see java.util.ListIterator#previous()
-             */
-            @Override
-            public E previous() {
-                if (!hasPrevious()) {
-                    throw new NoSuchElementException();
-                }
-                
-                if (nextIndex == size()) {
-                    nextIndex--;
-                    previousIndex--;
-                    return tail.getElement();
-                }
-                
-                current = current.getPrevious();
-                nextIndex--;
-                previousIndex--;
-                return current.getElement();
-            }
-            
-            /*
-             * returns the previous index of the element.
-             * @see java.util.ListIterator#previousIndex()
-             */
-            @Override
-            public int previousIndex() {
-                return previousIndex;
-            }
-
-            /*
-             * this method is not supported.
-             * @see java.util.ListIterator#remove()
-             */
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();                
-            }
-
-            /*
-             * this method is not supported.
-             * @see java.util.ListIterator#set(java.lang.Object)
-             */
-            @Override
-            public void set(E element) {
-                throw new UnsupportedOperationException();                
-            }
-        };
+        return new ListItr(0);
     }
 
     /**
@@ -286,83 +584,316 @@ public class LinkedList<E> implements Collection<E> {
      */
     @Override
     public boolean remove(Object object) {
-        Node temp = head;
+        long start = startTime();
+        int visited = 0;
+        detach();
+        Node<E> temp = head;
         while (temp != null) {
-            if (temp.getElement().equals(object)) {
-                if (temp.equals(head)) {
-                    head = temp.getNext();
-                    head.setPrevious(null);
-                } else if (temp.equals(tail)) {
-                    tail = temp.getPrevious();
-                    tail.setNext(null);
-                } else {
-                    Node nextNode = temp.getNext();
-                    Node prevNode = temp.getPrevious();
-                    prevNode.setNext(nextNode);
-                    nextNode.setPrevious(prevNode);
-                }
+            if (Objects.equals(object, temp.getElement())) {
+                unlink(temp);
+                checkSize();
+                record(Operation.REMOVE_OBJECT, visited, start);
                 return true;
             }
+            visited++;
             temp = temp.getNext();
         }
+        record(Operation.REMOVE_OBJECT, visited, start);
         return false;
     }
 
+    /*
+     * detaches the node from its neighbours and updates head, tail and size.
+     * Callers other than head removal detach a shared chain first.
+     */
+    void unlink(Node<E> node) {
+        Node<E> nextNode = node.getNext();
+        Node<E> prevNode = node.getPrevious();
+        if (prevNode == null) {
+            head = nextNode;
+        } else {
+            prevNode.setNext(nextNode);
+        }
+        
+        if (nextNode == null) {
+            tail = prevNode;
+        } else {
+            nextNode.setPrevious(prevNode);
+        }
+        
+        size--;
+        modCount++;
+        recycle(node);
+        if (metrics != null) {
+            metrics.nodesUnlinked(1);
+        }
+    }
+
+    /*
+     * returns a node holding the element, taken from the node pool when one is available.
+     */
+    private Node<E> newNode(E element) {
+        Node<E> node = pool;
+        if (metrics != null) {
+            metrics.nodeCreated(node != null);
+        }
+        if (node == null) {
+            return new Node<E>(element);
+        }
+        
+        pool = node.getNext();
+        poolSize--;
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /*
+     * clears an unlinked node and keeps it in the node pool while there is room.
+     * Nodes a snapshot may still read are left untouched.
+     */
+    private void recycle(Node<E> node) {
+        if (shared) {
+            return;
+        }
+        
+        node.setElement(null);
+        node.setPrevious(null);
+        if (poolSize < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
     /**
      * removes all of the list's elements that are contained in the specified collection.
-     * @param collection - collection of objects
+     * The list is traversed once and matching nodes are unlinked in place.
      * 
-     * @return true or false
+     * @param collection - collection of objects
+     * @return true if any element was removed
      */
     @Override
     public boolean removeAll(Collection<?> collection) {
-        Node temp = head;
-        boolean removed = false;
-        while (temp != null) {
-            if (collection.contains(temp.getElement())) {
-                removed = this.remove(temp.getElement());
-            }
-            temp = temp.getNext();
-        }
-        return removed;
+        Collection<?> lookup = hashedLookup(collection);
+        return removeNodesIf(element -> lookup.contains(element), Operation.REMOVE_ALL);
     }
 
     /**
      * retains only the elements in the list that are contained in the specified collection.
+     * The list is traversed once and other nodes are unlinked in place.
      * 
      * @param collection - collection of objects
-     * @return true or false
+     * @return true if any element was removed
      */
     @Override
     public boolean retainAll(Collection<?> collection) {
+        Collection<?> lookup = hashedLookup(collection);
+        return removeNodesIf(element -> !lookup.contains(element), Operation.RETAIN_ALL);
+    }
+
+    /**
+     * removes all of the elements of the list that satisfy the given predicate.
+     * 
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeNodesIf(filter, Operation.REMOVE_IF);
+    }
+
+    /*
+     * walks the list once and unlinks every node whose element matches the filter.
+     */
+    private boolean removeNodesIf(Predicate<? super E> filter, Operation operation) {
+        long start = startTime();
+        int visited = size;
+        detach();
         boolean removed = false;
-        Node temp = head;
+        Node<E> temp = head;
         while (temp != null) {
-            if (!collection.contains(temp.getElement())) {
-                removed = this.remove(temp.getElement());
+            Node<E> nextNode = temp.getNext();
+            if (filter.test(temp.getElement())) {
+                unlink(temp);
+                removed = true;
             }
             
-            temp = temp.getNext();
+            temp = nextNode;
         }
         
+        checkSize();
+        record(operation, visited, start);
         return removed;
     }
-    
+
     /**
-     * returns the number of elements in this collection.
+     * sorts the list by relinking its nodes, with a stable bottom-up natural merge sort.
+     * Each pass cuts the chain into ascending runs and merges them in pairs,
+     * so an already sorted list is handled in one linear pass and the extra
+     * memory is constant. No node or array is allocated, unless the chain
+     * is shared with a snapshot and has to be copied first.
+     * If the comparator throws, the list keeps all of its elements
+     * in an unspecified order.
+     * 
+     * @param comparator - comparator of the elements, null for their natural ordering
+     * @throws ClassCastException if the elements cannot be compared
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = (comparator == null)
+                ? (Comparator<? super E>) Comparator.naturalOrder() : comparator;
+        modCount++;
+        if (size < 2) {
+            return;
+        }
+        
+        detach();
+        Node<E> sorted = null;
+        Node<E> last = null;
+        Node<E> left = null;
+        Node<E> right = null;
+        Node<E> rest = head;
+        try {
+            int merged;
+            do {
+                merged = 0;
+                while (rest != null) {
+                    left = rest;
+                    rest = null;
+                    right = cutRun(left, order);
+                    if (right == null) {
+                        if (last == null) {
+                            sorted = left;
+                        } else {
+                            last.setNext(left);
+                        }
+                        left = null;
+                    } else {
+                        rest = cutRun(right, order);
+                        while (left != null && right != null) {
+                            Node<E> taken;
+                            if (order.compare(right.getElement(), left.getElement()) < 0) {
+                                taken = right;
+                                right = right.getNext();
+                            } else {
+                                taken = left;
+                                left = left.getNext();
+                            }
+                            if (last == null) {
+                                sorted = taken;
+                            } else {
+                                last.setNext(taken);
+                            }
+                            last = taken;
+                        }
+                        
+                        last.setNext((left != null) ? left : right);
+                        while (last.getNext() != null) {
+                            last = last.getNext();
+                        }
+                        left = null;
+                        right = null;
+                    }
+                    merged++;
+                }
+                
+                rest = sorted;
+                sorted = null;
+                last = null;
+            } while (merged > 1);
+        } finally {
+            if (last != null) {
+                last.setNext(null);
+            }
+            head = concat(concat(concat(sorted, left), right), rest);
+            Node<E> previous = null;
+            for (Node<E> temp = head; temp != null; temp = temp.getNext()) {
+                temp.setPrevious(previous);
+                previous = temp;
+            }
+            tail = previous;
+            checkSize();
+        }
+    }
+
+    /*
+     * cuts the chain after the ascending run which starts at first
+     * and returns the rest of the chain.
+     */
+    private static <E> Node<E> cutRun(Node<E> first, Comparator<? super E> order) {
+        Node<E> end = first;
+        Node<E> nextNode = end.getNext();
+        while (nextNode != null && order.compare(end.getElement(), nextNode.getElement()) <= 0) {
+            end = nextNode;
+            nextNode = end.getNext();
+        }
+        end.setNext(null);
+        return nextNode;
+    }
+
+    /*
+     * joins two null terminated chains, either of which may be empty.
+     */
+    private static <E> Node<E> concat(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        
+        Node<E> end = first;
+        while (end.getNext() != null) {
+            end = end.getNext();
+        }
+        end.setNext(second);
+        return first;
+    }
+
+    /*
+     * copies a large collection into a HashSet so contains is constant time.
+     * Sets are kept as they are because they may define their own equality.
+     * The other lists of the package use it for their bulk removals too.
+     */
+    static Collection<?> hashedLookup(Collection<?> collection) {
+        if (collection instanceof Set || collection.size() <= HASH_LOOKUP_THRESHOLD) {
+            return collection;
+        }
+        
+        return new HashSet<Object>(collection);
+    }
+    
+    /**
+     * returns the number of elements in this collection.
      * 
      * @return number of elements
      */
     @Override
     public int size() {
+        return size;
+    }
+
+    /*
+     * compares the cached size against a walk of the list when verification is on.
+     */
+    private void checkSize() {
+        if (!verifySize) {
+            return;
+        }
+        
         int counter = 0;
-        Node temp = head;
+        Node<E> temp = head;
         while (temp != null) {
             counter++;
             temp = temp.getNext();
         }
-
-        return counter;
+        
+        if (counter != size) {
+            throw new IllegalStateException("cached size " + size + " does not match " 
+                    + counter + " linked nodes");
+        }
     }
 
     /**
@@ -373,7 +904,7 @@ public class LinkedList<E> implements Collection<E> {
     @Override
     public Object[] toArray() {
         Object[] array = new Object[size()];
-        Node temp = head;
+        Node<E> temp = head;
         int index = 0;
         while (temp != null) {
             array[index] = temp.getElement();
@@ -392,7 +923,7 @@ public class LinkedList<E> implements Collection<E> {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T[] toArray(T[] array) {
-        Node temp = head;
+        Node<E> temp = head;
         if (array.length < size()) {
             array = Arrays.copyOf(array, size());
         }
@@ -411,15 +942,1339 @@ public class LinkedList<E> implements Collection<E> {
         return array;
     }
 
+    /**
+     * inserts the element at the head of the list.
+     * 
+     * @param element - type of element
+     */
+    @Override
+    public void addFirst(E element) {
+        if (head == null) {
+            add(element);
+        } else {
+            linkBefore(element, head);
+            checkSize();
+        }
+    }
+
+    /**
+     * appends the element to the tail of the list.
+     * 
+     * @param element - type of element
+     */
+    @Override
+    public void addLast(E element) {
+        add(element);
+    }
+
+    /**
+     * inserts the element at the head of the list.
+     * 
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
+
+    /**
+     * appends the element to the tail of the list.
+     * 
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean offerLast(E element) {
+        return add(element);
+    }
+
+    /**
+     * appends the element to the tail of the list.
+     * 
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean offer(E element) {
+        return add(element);
+    }
+
+    /**
+     * pushes the element onto the head of the list.
+     * 
+     * @param element - type of element
+     */
+    @Override
+    public void push(E element) {
+        addFirst(element);
+    }
+
+    /**
+     * removes and returns the head element.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return unlinkElement(head);
+    }
+
+    /**
+     * removes and returns the tail element.
+     * 
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        detach();
+        return unlinkElement(tail);
+    }
+
+    /**
+     * removes and returns the head element.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * pops the element at the head of the list.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * removes and returns the head element, or null if the list is empty.
+     * 
+     * @return the first element or null
+     */
+    @Override
+    public E pollFirst() {
+        return (head == null) ? null : unlinkElement(head);
+    }
+
+    /**
+     * removes and returns the tail element, or null if the list is empty.
+     * 
+     * @return the last element or null
+     */
+    @Override
+    public E pollLast() {
+        if (tail == null) {
+            return null;
+        }
+        detach();
+        return unlinkElement(tail);
+    }
+
+    /**
+     * removes and returns the head element, or null if the list is empty.
+     * 
+     * @return the first element or null
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * returns the head element without removing it.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return head.getElement();
+    }
+
+    /**
+     * returns the tail element without removing it.
+     * 
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return tail.getElement();
+    }
+
+    /**
+     * returns the head element without removing it.
+     * 
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * returns the head element, or null if the list is empty.
+     * 
+     * @return the first element or null
+     */
+    @Override
+    public E peekFirst() {
+        return (head == null) ? null : head.getElement();
+    }
+
+    /**
+     * returns the tail element, or null if the list is empty.
+     * 
+     * @return the last element or null
+     */
+    @Override
+    public E peekLast() {
+        return (tail == null) ? null : tail.getElement();
+    }
+
+    /**
+     * returns the head element, or null if the list is empty.
+     * 
+     * @return the first element or null
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * removes the first occurrence of the element, searching from the head.
+     * 
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object object) {
+        return remove(object);
+    }
+
+    /**
+     * removes the last occurrence of the element, searching from the tail.
+     * 
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean removeLastOccurrence(Object object) {
+        long start = startTime();
+        int visited = 0;
+        detach();
+        Node<E> temp = tail;
+        while (temp != null) {
+            if (Objects.equals(object, temp.getElement())) {
+                unlink(temp);
+                checkSize();
+                record(Operation.REMOVE_LAST_OCCURRENCE, visited, start);
+                return true;
+            }
+            visited++;
+            temp = temp.getPrevious();
+        }
+        record(Operation.REMOVE_LAST_OCCURRENCE, visited, start);
+        return false;
+    }
+
+    /**
+     * returns an iterator which walks the list from the tail to the head.
+     * 
+     * @return descending iterator of the list
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingItr();
+    }
+
+    /*
+     * unlinks the node and returns the element it held.
+     */
+    private E unlinkElement(Node<E> node) {
+        E element = node.getElement();
+        unlink(node);
+        checkSize();
+        return element;
+    }
+
+    /**
+     * returns the element at the specified position in the list.
+     * 
+     * @param index - position of the element
+     * @return the element
+     */
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        long start = startTime();
+        E element = node(index).getElement();
+        record(Operation.GET, walkLength(index), start);
+        return element;
+    }
+
+    /**
+     * replaces the element at the specified position in the list.
+     * 
+     * @param index - position of the element
+     * @param element - new element
+     * @return the element previously at the position
+     */
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        long start = startTime();
+        detach();
+        Node<E> target = node(index);
+        E oldElement = target.getElement();
+        target.setElement(element);
+        record(Operation.SET, walkLength(index), start);
+        return oldElement;
+    }
+
+    /**
+     * removes the element at the specified position in the list.
+     * 
+     * @param index - position of the element
+     * @return the removed element
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        long start = startTime();
+        int walked = walkLength(index);
+        if (index > 0) {
+            detach();
+        }
+        E element = unlinkElement(node(index));
+        record(Operation.REMOVE_AT, walked, start);
+        return element;
+    }
+
+    /**
+     * returns the index of the first occurrence of the specified element, or -1.
+     * 
+     * @param object - search object
+     * @return index of the element or -1
+     */
+    @Override
+    public int indexOf(Object object) {
+        long start = startTime();
+        int index = 0;
+        Node<E> temp = head;
+        while (temp != null) {
+            if (Objects.equals(object, temp.getElement())) {
+                record(Operation.INDEX_OF, index, start);
+                return index;
+            }
+            
+            index++;
+            temp = temp.getNext();
+        }
+        record(Operation.INDEX_OF, index, start);
+        return -1;
+    }
+
+    /**
+     * returns the index of the last occurrence of the specified element, or -1.
+     * The list is searched backward from the tail.
+     * 
+     * @param object - search object
+     * @return index of the element or -1
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        long start = startTime();
+        int index = size - 1;
+        Node<E> temp = tail;
+        while (temp != null) {
+            if (Objects.equals(object, temp.getElement())) {
+                record(Operation.LAST_INDEX_OF, size - 1 - index, start);
+                return index;
+            }
+            
+            index--;
+            temp = temp.getPrevious();
+        }
+        record(Operation.LAST_INDEX_OF, size, start);
+        return -1;
+    }
+
+    /**
+     * returns a list iterator which starts at the head of the list.
+     * 
+     * @return ListIterator of the list
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * returns a list iterator which starts at the specified position in the list.
+     * 
+     * @param index - index of the first element returned by next
+     * @return ListIterator of the list
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ListItr(index);
+    }
+
+    /**
+     * returns a late-binding, fail-fast spliterator over the list which reports
+     * ORDERED, SIZED and SUBSIZED. Splitting copies a run of the node chain
+     * into an array whose length grows with each split, so a parallel stream
+     * gets evenly sized pieces without walking to the middle of the list.
+     * 
+     * @return spliterator of the list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator();
+    }
+
+    /**
+     * performs the action for every element, running runs of the list in parallel
+     * on the common fork/join pool. Elements are visited in no particular order,
+     * so the action must be safe to call from several threads at once.
+     * 
+     * @param action - action to perform on each element
+     * @throws ConcurrentModificationException if the list changes meanwhile
+     */
+    public void parallelForEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        forEachSegment((first, start, count) -> {
+            Node<E> temp = first;
+            for (int i = 0; i < count; i++) {
+                action.accept(temp.getElement());
+                temp = temp.getNext();
+            }
+        });
+    }
+
+    /**
+     * replaces every element with the result of the operator, running runs of
+     * the list in parallel on the common fork/join pool.
+     * The operator must be safe to call from several threads at once.
+     * 
+     * @param operator - operator to apply to each element
+     * @throws ConcurrentModificationException if the list changes meanwhile
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        detach();
+        forEachSegment((first, start, count) -> {
+            Node<E> temp = first;
+            for (int i = 0; i < count; i++) {
+                temp.setElement(operator.apply(temp.getElement()));
+                temp = temp.getNext();
+            }
+        });
+    }
+
+    /**
+     * removes all of the elements that satisfy the predicate. The predicate is
+     * tested on runs of the list in parallel on the common fork/join pool, then
+     * the matching nodes are unlinked in one sequential pass.
+     * The predicate must be safe to call from several threads at once.
+     * 
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if the list changes meanwhile
+     */
+    public boolean parallelRemoveIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean[] matched = new boolean[size];
+        forEachSegment((first, start, count) -> {
+            Node<E> temp = first;
+            for (int i = 0; i < count; i++) {
+                matched[start + i] = filter.test(temp.getElement());
+                temp = temp.getNext();
+            }
+        });
+        
+        int index = 0;
+        while (index < matched.length && !matched[index]) {
+            index++;
+        }
+        if (index == matched.length) {
+            return false;
+        }
+        
+        detach();
+        Node<E> temp = node(index);
+        for (; index < matched.length; index++) {
+            Node<E> nextNode = temp.getNext();
+            if (matched[index]) {
+                unlink(temp);
+            }
+            temp = nextNode;
+        }
+        checkSize();
+        return true;
+    }
+
+    /**
+     * returns an array of all elements in order, copying runs of the list
+     * in parallel on the common fork/join pool.
+     * 
+     * @return array of the elements
+     * @throws ConcurrentModificationException if the list changes meanwhile
+     */
+    public Object[] parallelToArray() {
+        Object[] array = new Object[size];
+        forEachSegment((first, start, count) -> {
+            Node<E> temp = first;
+            for (int i = 0; i < count; i++) {
+                array[start + i] = temp.getElement();
+                temp = temp.getNext();
+            }
+        });
+        return array;
+    }
+
+    /*
+     * cuts the list into runs of equal length, finding their first nodes in one walk,
+     * and runs the action on every run through the common fork/join pool.
+     * A list which fits one run is handled on the calling thread.
+     */
+    private void forEachSegment(SegmentAction<E> action) {
+        if (size == 0) {
+            return;
+        }
+        
+        int expectedModCount = modCount;
+        int segments = ForkJoinPool.getCommonPoolParallelism() * SEGMENTS_PER_THREAD;
+        int segmentSize = Math.max(MIN_SEGMENT, (size + segments - 1) / segments);
+        if (segmentSize >= size) {
+            action.run(head, 0, size);
+        } else {
+            @SuppressWarnings("unchecked")
+            Node<E>[] firsts = (Node<E>[]) new Node<?>[(size + segmentSize - 1) / segmentSize];
+            Node<E> temp = head;
+            for (int i = 0; i < firsts.length; i++) {
+                firsts[i] = temp;
+                for (int j = 0; j < segmentSize && temp != null; j++) {
+                    temp = temp.getNext();
+                }
+            }
+            new SegmentTask(action, firsts, segmentSize, 0, firsts.length).invoke();
+        }
+        
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * returns a view of the portion of the list between fromIndex, inclusive,
+     * and toIndex, exclusive. The view is backed by the nodes of this list,
+     * so changes made through it are visible in the list.
+     * 
+     * @param fromIndex - low endpoint of the view
+     * @param toIndex - high endpoint of the view
+     * @return view of the range
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex 
+                    + ", toIndex: " + toIndex + ", size: " + size);
+        }
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * returns a lazy view of the elements which satisfy the predicate.
+     * Chained views are fused into one walk of the list when iterated.
+     * 
+     * @param filter - predicate which returns true for elements to keep
+     * @return filtered view
+     * @see ListView
+     */
+    public ListView<E> filtered(Predicate<? super E> filter) {
+        return ListView.of(this).filtered(filter);
+    }
+
+    /**
+     * returns a lazy view of the results of applying the function to the elements.
+     * 
+     * @param <R> - type of result
+     * @param mapper - function to apply to each element
+     * @return mapped view
+     * @see ListView
+     */
+    public <R> ListView<R> mapped(Function<? super E, ? extends R> mapper) {
+        return ListView.of(this).mapped(mapper);
+    }
+
+    /**
+     * returns a lazy view of at most the first count elements.
+     * 
+     * @param count - maximum number of elements
+     * @return limited view
+     * @see ListView
+     */
+    public ListView<E> limited(long count) {
+        return ListView.of(this).limited(count);
+    }
+
+    /**
+     * returns a lazy view without the first count elements.
+     * 
+     * @param count - number of elements to skip
+     * @return view of the remaining elements
+     * @see ListView
+     */
+    public ListView<E> skipped(long count) {
+        return ListView.of(this).skipped(count);
+    }
+
+    /**
+     * compares the specified object with the list. Two lists are equal when
+     * they contain equal elements in the same order.
+     * 
+     * @param object - object to compare
+     * @return true or false
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        
+        if (!(object instanceof List)) {
+            return false;
+        }
+        
+        Iterator<?> other = ((List<?>) object).iterator();
+        Node<E> temp = head;
+        while (temp != null && other.hasNext()) {
+            if (!Objects.equals(temp.getElement(), other.next())) {
+                return false;
+            }
+            temp = temp.getNext();
+        }
+        return temp == null && !other.hasNext();
+    }
+
+    /**
+     * returns the hash code defined by the List interface.
+     * 
+     * @return hash code of the list
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        Node<E> temp = head;
+        while (temp != null) {
+            hashCode = 31 * hashCode + Objects.hashCode(temp.getElement());
+            temp = temp.getNext();
+        }
+        return hashCode;
+    }
+
+    /**
+     * returns the elements of the list in square brackets.
+     * 
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Node<E> temp = head;
+        while (temp != null) {
+            builder.append(temp.getElement() == this ? "(this list)" : temp.getElement());
+            temp = temp.getNext();
+            if (temp != null) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /*
+     * writes the pool capacity and verification flag, then the size and the elements in order.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (Node<E> temp = head; temp != null; temp = temp.getNext()) {
+            out.writeObject(temp.getElement());
+        }
+    }
+
+    /*
+     * reads the fields written by writeObject and relinks the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("negative size " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            linkLast((E) in.readObject());
+        }
+    }
+
+    /*
+     * reads the clock for a recorded call, only when metrics are on.
+     */
+    private long startTime() {
+        return (metrics == null) ? 0L : System.nanoTime();
+    }
+
+    /*
+     * records a call which walked past the given number of nodes, when metrics are on.
+     */
+    private void record(Operation operation, long traversed, long start) {
+        if (metrics != null) {
+            metrics.record(operation, traversed, System.nanoTime() - start);
+        }
+    }
+
+    /*
+     * returns the number of nodes node(index) walks past.
+     */
+    private int walkLength(int index) {
+        return Math.min(index, size - 1 - index);
+    }
+
+    /*
+     * returns the node at the index, walking from the nearer end of the list.
+     */
+    private Node<E> node(int index) {
+        Node<E> temp;
+        if (index < (size >> 1)) {
+            temp = head;
+            for (int i = 0; i < index; i++) {
+                temp = temp.getNext();
+            }
+        } else {
+            temp = tail;
+            for (int i = size - 1; i > index; i--) {
+                temp = temp.getPrevious();
+            }
+        }
+        return temp;
+    }
+
+    /*
+     * checks that the index points at an existing element.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /*
+     * checks that the index is a valid cursor position, including size.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /*
+     * ListItr is a cursor between two nodes of the list.
+     * It starts from the nearer end of the list to the requested index.
+     */
+    private class ListItr implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * constructs an iterator whose first call to next returns the element at index.
+         * @param index position of the cursor
+         */
+        public ListItr(int index) {
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
+        /*
+         * returns true if there are more elements in the forward direction.
+         * @see java.util.ListIterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.ListIterator#next()
+         */
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getElement();
+        }
+
+        /*
+         * returns true if there are more elements in the reverse direction.
+         * @see java.util.ListIterator#hasPrevious()
+         */
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /*
+         * returns the previous element and moves the cursor position backward.
+         * @see java.util.ListIterator#previous()
+         */
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            
+            next = (next == null) ? tail : next.getPrevious();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getElement();
+        }
+
+        /*
+         * returns the index of the element returned by next.
+         * @see java.util.ListIterator#nextIndex()
+         */
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        /*
+         * returns the index of the element returned by previous.
+         * @see java.util.ListIterator#previousIndex()
+         */
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /*
+         * unlinks the node last returned by next or previous.
+         * @see java.util.ListIterator#remove()
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            
+            detachCursor();
+            Node<E> lastNext = lastReturned.getNext();
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            checkSize();
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * replaces the element of the node last returned by next or previous.
+         * @see java.util.ListIterator#set(java.lang.Object)
+         */
+        @Override
+        public void set(E element) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            detachCursor();
+            lastReturned.setElement(element);
+        }
+
+        /*
+         * inserts the element in front of the cursor.
+         * @see java.util.ListIterator#add(java.lang.Object)
+         */
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            if (next == null) {
+                LinkedList.this.add(element);
+            } else {
+                detachCursor();
+                linkBefore(element, next);
+                checkSize();
+            }
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * copies a chain shared with a snapshot before the iterator changes it,
+         * and finds the iterator's nodes again in the copy.
+         */
+        private void detachCursor() {
+            if (!shared) {
+                return;
+            }
+            
+            boolean returnedByPrevious = lastReturned != null && lastReturned == next;
+            detach();
+            next = (nextIndex == size) ? null : node(nextIndex);
+            if (lastReturned != null) {
+                lastReturned = returnedByPrevious ? next : node(nextIndex - 1);
+            }
+            expectedModCount = modCount;
+        }
+
+        /*
+         * fails fast when the list was changed other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /*
+     * DescendingItr runs a list iterator backward from the tail.
+     */
+    private class DescendingItr implements Iterator<E> {
+        private final ListItr iterator = new ListItr(size);
+
+        /*
+         * returns true if there are more elements toward the head.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return iterator.hasPrevious();
+        }
+
+        /*
+         * returns the next element toward the head.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        public E next() {
+            return iterator.previous();
+        }
+
+        /*
+         * removes the last element returned by next.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            iterator.remove();
+        }
+    }
+
+    /*
+     * NodeSpliterator binds to the head of the list on first use and
+     * splits off array batches of BATCH_UNIT, 2 * BATCH_UNIT, ... elements.
+     */
+    private class NodeSpliterator implements Spliterator<E> {
+        private Node<E> current;
+        private int estimate = -1;
+        private int expectedModCount;
+        private int batch;
+
+        /*
+         * binds to the list on first use and returns the remaining size.
+         */
+        private int getEstimate() {
+            if (estimate < 0) {
+                estimate = size;
+                expectedModCount = modCount;
+                current = head;
+            }
+            return estimate;
+        }
+
+        /*
+         * returns the number of elements left to traverse.
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize() {
+            return getEstimate();
+        }
+
+        /*
+         * copies the next batch of elements into an array and returns a spliterator over it.
+         * The batch also reports NONNULL when none of its elements is null.
+         * @see java.util.Spliterator#trySplit()
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            int remaining = getEstimate();
+            if (remaining <= 1 || current == null) {
+                return null;
+            }
+            
+            int length = Math.min(Math.min(batch + BATCH_UNIT, remaining), MAX_BATCH);
+            Object[] array = new Object[length];
+            boolean nonNull = true;
+            int count = 0;
+            Node<E> temp = current;
+            while (count < length && temp != null) {
+                Object element = temp.getElement();
+                nonNull &= element != null;
+                array[count++] = element;
+                temp = temp.getNext();
+            }
+            
+            current = temp;
+            batch = count;
+            estimate = remaining - count;
+            int characteristics = Spliterator.ORDERED | (nonNull ? Spliterator.NONNULL : 0);
+            return Spliterators.spliterator(array, 0, count, characteristics);
+        }
+
+        /*
+         * performs the action on every remaining element, then checks for modification.
+         * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int remaining = getEstimate();
+            Node<E> temp = current;
+            current = null;
+            estimate = 0;
+            for (int i = 0; i < remaining && temp != null; i++) {
+                action.accept(temp.getElement());
+                temp = temp.getNext();
+            }
+            
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /*
+         * performs the action on the next element, if there is one.
+         * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (getEstimate() <= 0 || current == null) {
+                return false;
+            }
+            
+            E element = current.getElement();
+            current = current.getNext();
+            estimate--;
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        /*
+         * the list knows its exact size and keeps its elements in order.
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /*
+     * SegmentAction processes count nodes starting at first, the node at index start.
+     */
+    private interface SegmentAction<E> {
+        void run(Node<E> first, int start, int count);
+    }
+
+    /*
+     * SegmentTask halves a range of runs of the list until a single run is left
+     * and hands it to the action.
+     */
+    private class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final SegmentAction<E> action;
+        private final Node<E>[] firsts;
+        private final int segmentSize;
+        private final int low;
+        private final int high;
+
+        /**
+         * constructs a task for the runs from low, inclusive, to high, exclusive.
+         * @param action what to do with each run
+         * @param firsts first node of every run
+         * @param segmentSize number of nodes in every run but the last
+         * @param low first run of the task
+         * @param high end of the runs of the task
+         */
+        public SegmentTask(SegmentAction<E> action, Node<E>[] firsts, int segmentSize, int low, int high) {
+            this.action = action;
+            this.firsts = firsts;
+            this.segmentSize = segmentSize;
+            this.low = low;
+            this.high = high;
+        }
+
+        /*
+         * runs a single run, or forks the two halves of the range.
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (high - low == 1) {
+                int start = low * segmentSize;
+                action.run(firsts[low], start, Math.min(segmentSize, size - start));
+            } else {
+                int middle = (low + high) >>> 1;
+                invokeAll(new SegmentTask(action, firsts, segmentSize, low, middle),
+                        new SegmentTask(action, firsts, segmentSize, middle, high));
+            }
+        }
+    }
+
+    /*
+     * SubList is a window over a range of this list.
+     * It keeps only an offset and a size; every element lives in the list's own nodes.
+     */
+    private class SubList extends AbstractList<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount = LinkedList.this.modCount;
+
+        /**
+         * constructs a view starting at offset and holding size elements.
+         * @param offset index of the first element in the list
+         * @param size number of elements in the view
+         */
+        public SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            checkIndex(index, size);
+            return LinkedList.this.get(offset + index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkForComodification();
+            checkIndex(index, size);
+            E oldElement = LinkedList.this.set(offset + index, element);
+            expectedModCount = LinkedList.this.modCount;
+            return oldElement;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            checkIndex(index, size + 1);
+            LinkedList.this.add(offset + index, element);
+            expectedModCount = LinkedList.this.modCount;
+            size++;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            checkIndex(index, size);
+            E element = LinkedList.this.remove(offset + index);
+            expectedModCount = LinkedList.this.modCount;
+            size--;
+            return element;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        /*
+         * walks the range once and unlinks its nodes instead of removing by index.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex >= toIndex) {
+                return;
+            }
+            
+            detach();
+            Node<E> temp = node(offset + fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                Node<E> nextNode = temp.getNext();
+                unlink(temp);
+                temp = nextNode;
+            }
+            expectedModCount = LinkedList.this.modCount;
+            size -= toIndex - fromIndex;
+            checkSize();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            checkIndex(index, size + 1);
+            return new SubListItr(index);
+        }
+
+        /*
+         * checks the index against the bound of the view.
+         */
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+            }
+        }
+
+        /*
+         * fails fast when the list was changed other than through this view.
+         */
+        private void checkForComodification() {
+            if (LinkedList.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /*
+         * SubListItr walks the list's nodes and stops at the edges of the view.
+         */
+        private class SubListItr implements ListIterator<E> {
+            private final ListIterator<E> iterator;
+
+            /**
+             * constructs an iterator positioned at index inside the view.
+             * @param index position of the cursor
+             */
+            public SubListItr(int index) {
+                iterator = LinkedList.this.listIterator(offset + index);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex() < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return iterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return previousIndex() >= 0;
+            }
+
+            @Override
+            public E previous() {
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                return iterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex() - offset;
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex() - offset;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                expectedModCount = LinkedList.this.modCount;
+                size--;
+            }
+
+            @Override
+            public void set(E element) {
+                iterator.set(element);
+                expectedModCount = LinkedList.this.modCount;
+            }
+
+            @Override
+            public void add(E element) {
+                iterator.add(element);
+                expectedModCount = LinkedList.this.modCount;
+                size++;
+            }
+        }
+    }
+
     /*
      * Node class has element, nextNode, and previousNode
      * It contains data, and two references. 
      * Those references tell what next Node and previous Node are.
+     * The class is static so a node does not carry a hidden reference
+     * to the list which owns it. It is visible to the package so LruCache
+     * can keep nodes as handles into the chain.
      */
-    private class Node {
+    static class Node<E> {
         private E element;
-        private Node next;
-        private Node previous;
+        private Node<E> next;
+        private Node<E> previous;
         
         /**
          * construct a node which holds an element.
@@ -451,7 +2306,7 @@ public class LinkedList<E> implements Collection<E> {
          * gets the next connected node.
          * @return the next
          */
-        public Node getNext() {
+        public Node<E> getNext() {
             return next;
         }
 
@@ -459,7 +2314,7 @@ public class LinkedList<E> implements Collection<E> {
          * sets the next node.
          * @param next the next to set
          */
-        public void setNext(Node next) {
+        public void setNext(Node<E> next) {
             this.next = next;
         }
 
@@ -467,7 +2322,7 @@ public class LinkedList<E> implements Collection<E> {
          * gets the previous connected node.
          * @return the previous
          */
-        public Node getPrevious() {
+        public Node<E> getPrevious() {
             return previous;
         }
 
@@ -475,7 +2330,7 @@ public class LinkedList<E> implements Collection<E> {
          * sets the previous node.
          * @param previous the previous to set
          */
-        public void setPrevious(Node previous) {
+        public void setPrevious(Node<E> previous) {
             this.previous = previous;
         }
     }
@@ -0,0 +1,280 @@
+package list;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy, read-only view of a LinkedList through a pipeline of filter, map, skip
+ * and limit stages. Creating a view copies nothing; iterating it walks the
+ * list's nodes once and passes each element through all of the stages before
+ * moving to the next node, so a chain of views is fused into one traversal
+ * without intermediate collections. A limit stops the walk as soon as it is
+ * reached. Views are late-binding: every traversal sees the list as it is then,
+ * and fails fast if the list changes during it.
+ * size walks the list unless the pipeline only maps. materialize copies the
+ * elements into a new LinkedList when the caller needs them to stay.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public final class ListView<T> extends AbstractCollection<T> {
+    private static final Stage[] NO_STAGES = new Stage[0];
+
+    private final LinkedList<?> source;
+    private final Stage[] stages;
+
+    private ListView(LinkedList<?> source, Stage[] stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    /**
+     * returns a view of all elements of the list.
+     *
+     * @param <T> - type of element
+     * @param source - list to view
+     * @return view of the list
+     */
+    public static <T> ListView<T> of(LinkedList<T> source) {
+        return new ListView<T>(Objects.requireNonNull(source), NO_STAGES);
+    }
+
+    /**
+     * returns a view of the elements which satisfy the predicate.
+     *
+     * @param filter - predicate which returns true for elements to keep
+     * @return filtered view
+     */
+    @SuppressWarnings("unchecked")
+    public ListView<T> filtered(Predicate<? super T> filter) {
+        return then(new Stage(StageKind.FILTER, (Predicate<Object>) Objects.requireNonNull(filter), null, 0));
+    }
+
+    /**
+     * returns a view of the results of applying the function to the elements.
+     * The function runs again on every traversal.
+     *
+     * @param <R> - type of result
+     * @param mapper - function to apply to each element
+     * @return mapped view
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ListView<R> mapped(Function<? super T, ? extends R> mapper) {
+        return (ListView<R>) then(new Stage(StageKind.MAP, null,
+                (Function<Object, Object>) Objects.requireNonNull(mapper), 0));
+    }
+
+    /**
+     * returns a view of at most the first count elements.
+     *
+     * @param count - maximum number of elements
+     * @return limited view
+     */
+    public ListView<T> limited(long count) {
+        return then(new Stage(StageKind.LIMIT, null, null, checkCount(count)));
+    }
+
+    /**
+     * returns a view without the first count elements.
+     *
+     * @param count - number of elements to skip
+     * @return view of the remaining elements
+     */
+    public ListView<T> skipped(long count) {
+        return then(new Stage(StageKind.SKIP, null, null, checkCount(count)));
+    }
+
+    /**
+     * returns an iterator which walks the list once through every stage.
+     * It cannot remove elements.
+     *
+     * @return iterator of the view
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * returns the number of elements of the view.
+     * Unless the pipeline only maps, this walks the list.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        boolean mapsOnly = true;
+        for (Stage stage : stages) {
+            mapsOnly &= stage.kind == StageKind.MAP;
+        }
+        if (mapsOnly) {
+            return source.size();
+        }
+
+        int count = 0;
+        for (Iterator<T> it = iterator(); it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * returns true if the view has no element; it stops at the first one found.
+     *
+     * @return true or false
+     */
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    /**
+     * copies the elements of the view into a new list in one traversal.
+     *
+     * @return list of the elements
+     */
+    public LinkedList<T> materialize() {
+        LinkedList<T> list = new LinkedList<T>();
+        for (T element : this) {
+            list.linkLast(element);
+        }
+        return list;
+    }
+
+    /*
+     * returns a view with one more stage at the end of the pipeline.
+     */
+    private ListView<T> then(Stage stage) {
+        Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return new ListView<T>(source, next);
+    }
+
+    /*
+     * checks that a skip or limit count is not negative.
+     */
+    private static long checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("negative count: " + count);
+        }
+        return count;
+    }
+
+    /*
+     * StageKind tells what a stage does with an element.
+     */
+    private enum StageKind {
+        FILTER,
+        MAP,
+        SKIP,
+        LIMIT
+    }
+
+    /*
+     * Stage is one immutable step of the pipeline.
+     */
+    private static final class Stage {
+        private final StageKind kind;
+        private final Predicate<Object> filter;
+        private final Function<Object, Object> mapper;
+        private final long count;
+
+        private Stage(StageKind kind, Predicate<Object> filter, Function<Object, Object> mapper, long count) {
+            this.kind = kind;
+            this.filter = filter;
+            this.mapper = mapper;
+            this.count = count;
+        }
+    }
+
+    /*
+     * Itr pulls elements from the list and pushes each one through the stages
+     * until one comes out of the last stage.
+     * Skip and limit stages count the elements they saw in this traversal.
+     */
+    private class Itr implements Iterator<T> {
+        private final Iterator<?> elements = source.iterator();
+        private final long[] seen = new long[stages.length];
+        private boolean done;
+        private boolean ready;
+        private Object nextValue;
+
+        /**
+         * constructs an iterator which is done from the start if a limit is 0.
+         */
+        public Itr() {
+            for (Stage stage : stages) {
+                done |= stage.kind == StageKind.LIMIT && stage.count == 0;
+            }
+        }
+
+        /*
+         * returns true if another element comes out of the pipeline.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            while (!ready && !done && elements.hasNext()) {
+                ready = push(elements.next());
+            }
+            return ready;
+        }
+
+        /*
+         * returns the next element which came out of the pipeline.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ready = false;
+            Object value = nextValue;
+            nextValue = null;
+            return (T) value;
+        }
+
+        /*
+         * runs one element through the stages; returns true if it came out.
+         * A limit which has let its last element through ends the traversal.
+         */
+        private boolean push(Object value) {
+            for (int i = 0; i < stages.length; i++) {
+                Stage stage = stages[i];
+                switch (stage.kind) {
+                case FILTER:
+                    if (!stage.filter.test(value)) {
+                        return false;
+                    }
+                    break;
+                case MAP:
+                    value = stage.mapper.apply(value);
+                    break;
+                case SKIP:
+                    if (seen[i] < stage.count) {
+                        seen[i]++;
+                        return false;
+                    }
+                    break;
+                default:
+                    if (++seen[i] == stage.count) {
+                        done = true;
+                    }
+                    break;
+                }
+            }
+            nextValue = value;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package list;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded least-recently-used cache built on the node chain of LinkedList.
+ * Entries are kept in a LinkedList from least to most recently used, and a HashMap
+ * maps each key to its node, so get, put, touch and remove are O(1): a hit relinks
+ * the node as the tail and an insertion past the maximum size evicts the head.
+ * Hit, miss and eviction counters help tune the maximum size.
+ * The cache is not synchronized; share it between threads only behind a lock.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class LruCache<K, V> {
+    /**
+     * receives the entries the cache evicts to stay within its maximum size.
+     */
+    @FunctionalInterface
+    public interface EvictionListener<K, V> {
+        /**
+         * called after an entry is evicted.
+         *
+         * @param key - key of the evicted entry
+         * @param value - value of the evicted entry
+         */
+        void onEviction(K key, V value);
+    }
+
+    private final Map<K, LinkedList.Node<Entry<K, V>>> index;
+    private final LinkedList<Entry<K, V>> order;
+    private final List<EvictionListener<? super K, ? super V>> listeners;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * constructs an empty cache holding at most maxSize entries.
+     *
+     * @param maxSize - maximum number of entries, at least 1
+     */
+    public LruCache(int maxSize) {
+        checkMaxSize(maxSize);
+        this.maxSize = maxSize;
+        index = new HashMap<K, LinkedList.Node<Entry<K, V>>>();
+        order = new LinkedList<Entry<K, V>>();
+        order.setNodePoolCapacity(1);
+        listeners = new ArrayList<EvictionListener<? super K, ? super V>>();
+    }
+
+    /**
+     * returns the value cached for the key and marks it most recently used.
+     * Counts a hit or a miss.
+     *
+     * @param key - key to look up
+     * @return the value, or null if the key is not cached
+     */
+    public V get(Object key) {
+        LinkedList.Node<Entry<K, V>> node = index.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        order.moveToTail(node);
+        return node.getElement().value;
+    }
+
+    /**
+     * returns the value cached for the key without touching it or counting.
+     *
+     * @param key - key to look up
+     * @return the value, or null if the key is not cached
+     */
+    public V peek(Object key) {
+        LinkedList.Node<Entry<K, V>> node = index.get(key);
+        return (node == null) ? null : node.getElement().value;
+    }
+
+    /**
+     * caches the value for the key and marks it most recently used.
+     * When a new key makes the cache exceed its maximum size,
+     * the least recently used entry is evicted.
+     *
+     * @param key - key to cache
+     * @param value - value to cache
+     * @return the previous value for the key, or null
+     */
+    public V put(K key, V value) {
+        LinkedList.Node<Entry<K, V>> node = index.get(key);
+        if (node != null) {
+            Entry<K, V> entry = node.getElement();
+            V previous = entry.value;
+            entry.value = value;
+            order.moveToTail(node);
+            return previous;
+        }
+
+        if (index.size() >= maxSize) {
+            evict(1);
+        }
+        index.put(key, order.linkLast(new Entry<K, V>(key, value)));
+        return null;
+    }
+
+    /**
+     * marks the key most recently used without reading its value or counting.
+     *
+     * @param key - key to touch
+     * @return true if the key is cached
+     */
+    public boolean touch(Object key) {
+        LinkedList.Node<Entry<K, V>> node = index.get(key);
+        if (node == null) {
+            return false;
+        }
+
+        order.moveToTail(node);
+        return true;
+    }
+
+    /**
+     * removes the key from the cache. Removal is not an eviction.
+     *
+     * @param key - key to remove
+     * @return the removed value, or null if the key was not cached
+     */
+    public V remove(Object key) {
+        LinkedList.Node<Entry<K, V>> node = index.remove(key);
+        if (node == null) {
+            return null;
+        }
+
+        V value = node.getElement().value;
+        order.unlink(node);
+        return value;
+    }
+
+    /**
+     * returns true if the key is cached, without touching it or counting.
+     *
+     * @param key - key to look up
+     * @return true or false
+     */
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * removes every entry without notifying the eviction listeners.
+     */
+    public void clear() {
+        index.clear();
+        order.clear();
+    }
+
+    /**
+     * returns the number of cached entries.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * gets the maximum number of entries.
+     *
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * sets the maximum number of entries, evicting the least recently used
+     * entries when the cache holds more.
+     *
+     * @param maxSize - maximum number of entries, at least 1
+     */
+    public void setMaxSize(int maxSize) {
+        checkMaxSize(maxSize);
+        this.maxSize = maxSize;
+        evict(index.size() - maxSize);
+    }
+
+    /**
+     * returns the keys from least to most recently used.
+     *
+     * @return keys in eviction order
+     */
+    public List<K> keys() {
+        List<K> keys = new ArrayList<K>(index.size());
+        for (Entry<K, V> entry : order) {
+            keys.add(entry.key);
+        }
+        return keys;
+    }
+
+    /**
+     * registers a listener which is called for every evicted entry.
+     *
+     * @param listener - listener to add
+     */
+    public void addEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * unregisters a listener.
+     *
+     * @param listener - listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * gets the number of get calls which found their key.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * gets the number of get calls which did not find their key.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * gets the number of entries evicted to stay within the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * returns hits divided by get calls, or 0 before the first get.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return (requests == 0) ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * sets the hit, miss and eviction counters back to 0.
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * returns the entries from least to most recently used.
+     *
+     * @return string form of the cache
+     */
+    @Override
+    public String toString() {
+        return order.toString();
+    }
+
+    /*
+     * unlinks the given number of head entries and notifies the listeners.
+     * The unlinked node goes to the list's node pool, so the put which caused
+     * the eviction reuses it.
+     */
+    private void evict(int count) {
+        for (int i = 0; i < count; i++) {
+            LinkedList.Node<Entry<K, V>> node = order.getHead();
+            Entry<K, V> entry = node.getElement();
+            index.remove(entry.key);
+            order.unlink(node);
+            evictions++;
+            for (EvictionListener<? super K, ? super V> listener : listeners) {
+                listener.onEviction(entry.key, entry.value);
+            }
+        }
+    }
+
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maximum size must be at least 1: " + maxSize);
+        }
+    }
+
+    /*
+     * Entry holds a key and its value inside a LinkedList node.
+     */
+    private static final class Entry<K, V> {
+        private final K key;
+        private V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
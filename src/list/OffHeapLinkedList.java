@@ -0,0 +1,539 @@
+package list;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import list.io.ElementCodec;
+
+/**
+ * Doubly-linked list which keeps its nodes outside the Java heap.
+ * Every node is a slot in a chunk of direct memory holding an int link to the next
+ * slot, an int link to the previous slot and the element written by a fixed width
+ * ElementCodec, so a list of any length adds only its chunk table to the heap and
+ * gives the garbage collector nothing to trace. Elements are decoded on every read,
+ * and null elements are not permitted.
+ * Removed slots are kept on a free list and reused by later adds.
+ * The memory is released by close(); the list cannot be used afterwards.
+ * Like LinkedList it is not thread-safe, but several threads may read it at once
+ * while none writes.
+ * Direct memory is limited by -XX:MaxDirectMemorySize, which defaults to the heap size.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class OffHeapLinkedList<E> extends AbstractCollection<E> implements AutoCloseable {
+    private static final int NONE = -1;
+    private static final int NEXT = 0;
+    private static final int PREVIOUS = 4;
+    private static final int LINKS = 8;
+
+    /*
+     * every chunk holds 2^CHUNK_SHIFT slots.
+     */
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final ElementCodec<E> codec;
+    private final int slotSize;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int head = NONE;
+    private int tail = NONE;
+    private int free = NONE;
+    private int used;
+    private int size;
+    private int modCount;
+
+    /**
+     * constructs an empty list whose elements are written by the codec.
+     *
+     * @param codec - fixed width element codec
+     * @throws IllegalArgumentException if the codec is variable width
+     */
+    public OffHeapLinkedList(ElementCodec<E> codec) {
+        int fixedSize = codec.fixedSize();
+        if (fixedSize == ElementCodec.VARIABLE_SIZE || fixedSize > (1 << 16)) {
+            throw new IllegalArgumentException("codec must be fixed width up to 65536 bytes: " + fixedSize);
+        }
+        this.codec = codec;
+        slotSize = LINKS + fixedSize;
+        chunks = new ByteBuffer[8];
+    }
+
+    /**
+     * appends the specified element to the end of the list.
+     *
+     * @param element - non-null element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        linkBefore(element, NONE);
+        return true;
+    }
+
+    /**
+     * inserts the specified element at the beginning of the list.
+     *
+     * @param element - non-null element
+     */
+    public void addFirst(E element) {
+        linkBefore(element, head);
+    }
+
+    /**
+     * Removes all of the elements from the list. The chunks are kept for reuse.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        head = NONE;
+        tail = NONE;
+        free = NONE;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * returns true if the list contains at least one of the specified element.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        return find(object) != NONE;
+    }
+
+    /**
+     * returns the first element of the list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getFirst() {
+        checkOpen();
+        if (head == NONE) {
+            throw new NoSuchElementException();
+        }
+        return read(head);
+    }
+
+    /**
+     * returns the last element of the list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getLast() {
+        checkOpen();
+        if (tail == NONE) {
+            throw new NoSuchElementException();
+        }
+        return read(tail);
+    }
+
+    /**
+     * returns a list iterator positioned before the first element.
+     *
+     * @return iterator of the list
+     */
+    @Override
+    public ListIterator<E> iterator() {
+        checkOpen();
+        return new Itr(head, 0);
+    }
+
+    /**
+     * returns a list iterator positioned after the last element,
+     * for walking the list backward with previous.
+     *
+     * @return iterator of the list
+     */
+    public ListIterator<E> iteratorFromEnd() {
+        checkOpen();
+        return new Itr(NONE, size);
+    }
+
+    /**
+     * removes the first occurrence of the specified element from the list.
+     *
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean remove(Object object) {
+        int slot = find(object);
+        if (slot == NONE) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * removes and returns the first element of the list.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E removeFirst() {
+        E element = getFirst();
+        unlink(head);
+        return element;
+    }
+
+    /**
+     * removes and returns the last element of the list.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E removeLast() {
+        E element = getLast();
+        unlink(tail);
+        return element;
+    }
+
+    /**
+     * returns the number of elements in this collection.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * returns the bytes of direct memory the list holds, used or not.
+     *
+     * @return reserved off-heap bytes
+     */
+    public long getReservedBytes() {
+        return (long) chunkCount * (slotSize << CHUNK_SHIFT);
+    }
+
+    /**
+     * releases the direct memory of the list. Calling close again has no effect.
+     */
+    @Override
+    public void close() {
+        if (chunks == null) {
+            return;
+        }
+
+        for (int i = 0; i < chunkCount; i++) {
+            release(chunks[i]);
+        }
+        chunks = null;
+        chunkCount = 0;
+        head = NONE;
+        tail = NONE;
+        free = NONE;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /*
+     * writes the element into a new slot linked in front of the successor slot,
+     * or at the end when successor is NONE.
+     */
+    private void linkBefore(E element, int successor) {
+        Objects.requireNonNull(element, "null elements are not permitted");
+        checkOpen();
+        int slot = allocate();
+        write(slot, element);
+        int prevSlot = (successor == NONE) ? tail : link(successor, PREVIOUS);
+        setLink(slot, NEXT, successor);
+        setLink(slot, PREVIOUS, prevSlot);
+        if (prevSlot == NONE) {
+            head = slot;
+        } else {
+            setLink(prevSlot, NEXT, slot);
+        }
+        if (successor == NONE) {
+            tail = slot;
+        } else {
+            setLink(successor, PREVIOUS, slot);
+        }
+        size++;
+        modCount++;
+    }
+
+    /*
+     * returns the slot holding the first occurrence of the object, or NONE.
+     */
+    private int find(Object object) {
+        checkOpen();
+        if (object == null) {
+            return NONE;
+        }
+
+        for (int slot = head; slot != NONE; slot = link(slot, NEXT)) {
+            if (object.equals(read(slot))) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    /*
+     * detaches the slot from its neighbours and puts it on the free list.
+     */
+    private void unlink(int slot) {
+        int nextSlot = link(slot, NEXT);
+        int prevSlot = link(slot, PREVIOUS);
+        if (prevSlot == NONE) {
+            head = nextSlot;
+        } else {
+            setLink(prevSlot, NEXT, nextSlot);
+        }
+
+        if (nextSlot == NONE) {
+            tail = prevSlot;
+        } else {
+            setLink(nextSlot, PREVIOUS, prevSlot);
+        }
+
+        setLink(slot, NEXT, free);
+        free = slot;
+        size--;
+        modCount++;
+    }
+
+    /*
+     * takes a slot from the free list, or the next unused slot,
+     * allocating a new chunk when every chunk is full.
+     */
+    private int allocate() {
+        if (free != NONE) {
+            int slot = free;
+            free = link(slot, NEXT);
+            return slot;
+        }
+
+        if (used == Integer.MAX_VALUE) {
+            throw new IllegalStateException("list is full");
+        }
+        if ((used >>> CHUNK_SHIFT) == chunkCount) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(slotSize << CHUNK_SHIFT);
+        }
+        return used++;
+    }
+
+    private int link(int slot, int field) {
+        return chunks[slot >>> CHUNK_SHIFT].getInt((slot & CHUNK_MASK) * slotSize + field);
+    }
+
+    private void setLink(int slot, int field, int target) {
+        chunks[slot >>> CHUNK_SHIFT].putInt((slot & CHUNK_MASK) * slotSize + field, target);
+    }
+
+    /*
+     * reads and writes elements at absolute offsets, so concurrent readers never
+     * move a buffer position another one uses.
+     */
+    private E read(int slot) {
+        return codec.decodeAt(chunks[slot >>> CHUNK_SHIFT], (slot & CHUNK_MASK) * slotSize + LINKS,
+                codec.fixedSize());
+    }
+
+    private void write(int slot, E element) {
+        codec.encodeAt(element, chunks[slot >>> CHUNK_SHIFT], (slot & CHUNK_MASK) * slotSize + LINKS);
+    }
+
+    private void checkOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /*
+     * frees a direct buffer now instead of when it is collected, through
+     * Unsafe.invokeCleaner on Java 9 and later or the buffer's cleaner on Java 8.
+     * When neither is reachable the buffer is left to the garbage collector.
+     */
+    private static void release(ByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not Java 9 or later; try the Java 8 cleaner below
+        }
+
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+
+    /*
+     * Itr walks the slot links in both directions and fails fast on outside changes.
+     */
+    private class Itr implements ListIterator<E> {
+        private int nextSlot;
+        private int lastReturned = NONE;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        /**
+         * constructs an iterator positioned before nextSlot.
+         * @param nextSlot slot returned by next, NONE at the end
+         * @param nextIndex index of that slot
+         */
+        Itr(int nextSlot, int nextIndex) {
+            this.nextSlot = nextSlot;
+            this.nextIndex = nextIndex;
+        }
+
+        /*
+         * returns true if there are more elements going forward.
+         * @see java.util.ListIterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.ListIterator#next()
+         */
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = link(nextSlot, NEXT);
+            nextIndex++;
+            return read(lastReturned);
+        }
+
+        /*
+         * returns true if there are more elements going backward.
+         * @see java.util.ListIterator#hasPrevious()
+         */
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /*
+         * returns the previous element and moves the cursor position backward.
+         * @see java.util.ListIterator#previous()
+         */
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextSlot = (nextSlot == NONE) ? tail : link(nextSlot, PREVIOUS);
+            lastReturned = nextSlot;
+            nextIndex--;
+            return read(lastReturned);
+        }
+
+        /*
+         * returns the index of the element next would return.
+         * @see java.util.ListIterator#nextIndex()
+         */
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        /*
+         * returns the index of the element previous would return.
+         * @see java.util.ListIterator#previousIndex()
+         */
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /*
+         * removes the element last returned by next or previous.
+         * @see java.util.ListIterator#remove()
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NONE) {
+                throw new IllegalStateException();
+            }
+
+            if (lastReturned == nextSlot) {
+                nextSlot = link(lastReturned, NEXT);
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * replaces the element last returned by next or previous.
+         * @see java.util.ListIterator#set(java.lang.Object)
+         */
+        @Override
+        public void set(E element) {
+            Objects.requireNonNull(element, "null elements are not permitted");
+            checkForComodification();
+            if (lastReturned == NONE) {
+                throw new IllegalStateException();
+            }
+            write(lastReturned, element);
+        }
+
+        /*
+         * inserts the element in front of the cursor.
+         * @see java.util.ListIterator#add(java.lang.Object)
+         */
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            linkBefore(element, nextSlot);
+            nextIndex++;
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * fails fast when the list was changed other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
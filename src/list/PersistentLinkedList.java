@@ -0,0 +1,302 @@
+package list;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable list which shares its structure with the lists it was made from.
+ * A snapshot of a LinkedList keeps the nodes of the LinkedList as its middle part,
+ * prepend pushes onto a front cons list and append pushes onto a reversed back
+ * cons list, so all three take constant time and copy nothing. Every version
+ * stays valid and unchanged after newer versions are made from it.
+ * All fields are final, so a list can be handed to and read from any thread
+ * without locking. Note that a snapshot keeps the nodes its source appends later
+ * reachable until the source copies or clears its chain.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public final class PersistentLinkedList<E> extends AbstractCollection<E> {
+    private static final PersistentLinkedList<Object> EMPTY =
+            new PersistentLinkedList<Object>(null, 0, null, 0, null, 0, null, null);
+
+    private final Cons<E> front;
+    private final int frontSize;
+    private final LinkedList.Node<E> middle;
+    private final int middleSize;
+    private final Cons<E> back;
+    private final int backSize;
+    private final E first;
+    private final E last;
+
+    private PersistentLinkedList(Cons<E> front, int frontSize, LinkedList.Node<E> middle, int middleSize,
+            Cons<E> back, int backSize, E first, E last) {
+        this.front = front;
+        this.frontSize = frontSize;
+        this.middle = middle;
+        this.middleSize = middleSize;
+        this.back = back;
+        this.backSize = backSize;
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * returns the empty list.
+     *
+     * @param <E> - type of element
+     * @return list without elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentLinkedList<E> empty() {
+        return (PersistentLinkedList<E>) EMPTY;
+    }
+
+    /**
+     * returns a list holding the elements of the collection in iteration order.
+     *
+     * @param <E> - type of element
+     * @param collection - elements to copy
+     * @return list of the elements
+     */
+    public static <E> PersistentLinkedList<E> copyOf(Collection<? extends E> collection) {
+        LinkedList<E> list = new LinkedList<E>();
+        list.addAll(collection);
+        return list.snapshot();
+    }
+
+    /*
+     * wraps the count nodes from head to tail, whose elements and links
+     * up to the tail the caller must stop writing to.
+     */
+    static <E> PersistentLinkedList<E> over(LinkedList.Node<E> head, LinkedList.Node<E> tail, int count) {
+        return new PersistentLinkedList<E>(null, 0, head, count, null, 0, head.getElement(), tail.getElement());
+    }
+
+    /**
+     * returns a list with the element in front of the elements of this list.
+     *
+     * @param element - element to add
+     * @return new list, this list is unchanged
+     */
+    public PersistentLinkedList<E> prepend(E element) {
+        return new PersistentLinkedList<E>(new Cons<E>(element, front), frontSize + 1, middle, middleSize,
+                back, backSize, element, isEmpty() ? element : last);
+    }
+
+    /**
+     * returns a list with the element after the elements of this list.
+     *
+     * @param element - element to add
+     * @return new list, this list is unchanged
+     */
+    public PersistentLinkedList<E> append(E element) {
+        return new PersistentLinkedList<E>(front, frontSize, middle, middleSize,
+                new Cons<E>(element, back), backSize + 1, isEmpty() ? element : first, element);
+    }
+
+    /**
+     * gets the first element in constant time.
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return first;
+    }
+
+    /**
+     * gets the last element in constant time.
+     *
+     * @return the last element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return last;
+    }
+
+    /**
+     * gets the element at the specified position.
+     *
+     * @param index - position of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        if (index < frontSize) {
+            Cons<E> temp = front;
+            for (int i = 0; i < index; i++) {
+                temp = temp.next;
+            }
+            return temp.element;
+        }
+
+        index -= frontSize;
+        if (index < middleSize) {
+            LinkedList.Node<E> temp = middle;
+            for (int i = 0; i < index; i++) {
+                temp = temp.getNext();
+            }
+            return temp.getElement();
+        }
+
+        Cons<E> temp = back;
+        for (int i = size() - frontSize - 1; i > index; i--) {
+            temp = temp.next;
+        }
+        return temp.element;
+    }
+
+    /**
+     * returns the number of elements in the list.
+     *
+     * @return the size
+     */
+    @Override
+    public int size() {
+        return frontSize + middleSize + backSize;
+    }
+
+    /**
+     * returns an iterator over the elements in order; it cannot remove elements.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * copies the elements into a new mutable list.
+     *
+     * @return list of the elements
+     */
+    public LinkedList<E> toLinkedList() {
+        LinkedList<E> list = new LinkedList<E>();
+        list.addAll(this);
+        return list;
+    }
+
+    /**
+     * compares the elements of two persistent lists in order.
+     *
+     * @param object - object to compare with
+     * @return true if the object is a persistent list with equal elements in the same order
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof PersistentLinkedList) || ((PersistentLinkedList<?>) object).size() != size()) {
+            return false;
+        }
+
+        Iterator<?> other = ((PersistentLinkedList<?>) object).iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, other.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * computes the hash code the same way as java.util.List.
+     *
+     * @return hash code of the elements
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    /*
+     * Cons is an immutable cell of a singly-linked list.
+     */
+    private static final class Cons<E> {
+        private final E element;
+        private final Cons<E> next;
+
+        private Cons(E element, Cons<E> next) {
+            this.element = element;
+            this.next = next;
+        }
+    }
+
+    /*
+     * Itr walks the front, then the shared nodes, then the back,
+     * which is copied into an array in order when it is reached.
+     */
+    private class Itr implements Iterator<E> {
+        private Cons<E> nextFront = front;
+        private LinkedList.Node<E> nextMiddle = middle;
+        private int middleLeft = middleSize;
+        private Object[] backElements;
+        private int backIndex;
+        private int remaining = size();
+
+        /*
+         * returns true if the iteration has more elements.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /*
+         * returns the next element in the iteration.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+
+            remaining--;
+            if (nextFront != null) {
+                E element = nextFront.element;
+                nextFront = nextFront.next;
+                return element;
+            }
+            if (middleLeft > 0) {
+                E element = nextMiddle.getElement();
+                middleLeft--;
+                nextMiddle = (middleLeft == 0) ? null : nextMiddle.getNext();
+                return element;
+            }
+            if (backElements == null) {
+                backElements = new Object[backSize];
+                Cons<E> temp = back;
+                for (int i = backSize - 1; i >= 0; i--) {
+                    backElements[i] = temp.element;
+                    temp = temp.next;
+                }
+            }
+            return (E) backElements[backIndex++];
+        }
+    }
+}
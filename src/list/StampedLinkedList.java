@@ -0,0 +1,351 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe wrapper around LinkedList for lists which are read far more often
+ * than they are written. Reads run under an optimistic StampedLock stamp without
+ * blocking anyone, and are retried under the read lock only when a writer got in
+ * the way. Every mutating call, including the bulk ones, takes the write lock once.
+ * Iterators and forEach work on a snapshot taken by one such read, so they never
+ * block writers and never throw ConcurrentModificationException.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class StampedLinkedList<E> implements Collection<E> {
+    private final LinkedList<E> list;
+    private final StampedLock lock;
+
+    /**
+     * constructs an empty list.
+     */
+    public StampedLinkedList() {
+        list = new LinkedList<E>();
+        lock = new StampedLock();
+    }
+
+    /**
+     * constructs a list holding the elements of the collection in iteration order.
+     *
+     * @param collection - elements to add
+     */
+    public StampedLinkedList(Collection<? extends E> collection) {
+        this();
+        list.addAll(collection);
+    }
+
+    /**
+     * appends the specified element to the end of the list.
+     *
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        return write(() -> list.add(element));
+    }
+
+    /**
+     * appends all of the elements in the specified collection under one write lock.
+     *
+     * @param collection type of collection
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        Object[] elements = collection.toArray();
+        @SuppressWarnings("unchecked")
+        Collection<E> batch = (Collection<E>) Arrays.asList(elements);
+        return write(() -> list.addAll(batch) && elements.length > 0);
+    }
+
+    /**
+     * Removes all of the elements from the list.
+     */
+    @Override
+    public void clear() {
+        write(() -> {
+            list.clear();
+            return true;
+        });
+    }
+
+    /**
+     * returns true if the list contains at least one of the specified element.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        return read(() -> containsElement(object));
+    }
+
+    /**
+     * returns true if the list contains all of the specified elements in the collection.
+     *
+     * @param collection - collection of objects
+     * @return true or false
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        return read(() -> {
+            for (Object object : collection) {
+                if (!containsElement(object)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * returns true if this collection contains no element.
+     *
+     * @return true or false
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * returns an iterator over a snapshot of the list.
+     * Its remove method removes the first equal element from the live list.
+     *
+     * @return iterator of the snapshot
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotItr(toArray());
+    }
+
+    /**
+     * performs the action for each element of a snapshot of the list.
+     *
+     * @param action - action to perform
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : toArray()) {
+            action.accept((E) element);
+        }
+    }
+
+    /**
+     * removes a single instance of the specified element from the list.
+     *
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean remove(Object object) {
+        return write(() -> list.remove(object));
+    }
+
+    /**
+     * removes all of the list's elements that are contained in the specified collection
+     * under one write lock.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        return write(() -> list.removeAll(collection));
+    }
+
+    /**
+     * retains only the elements in the list that are contained in the specified collection
+     * under one write lock.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        return write(() -> list.retainAll(collection));
+    }
+
+    /**
+     * removes all of the elements of the list that satisfy the predicate under one write lock.
+     *
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return write(() -> list.removeIf(filter));
+    }
+
+    /**
+     * returns the number of elements in this collection.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return read(list::size);
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection.
+     *
+     * @return object array
+     */
+    @Override
+    public Object[] toArray() {
+        return read(list::toArray);
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @return generic type array
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        Object[] snapshot = toArray();
+        if (array.length < snapshot.length) {
+            return (T[]) Arrays.copyOf(snapshot, snapshot.length, array.getClass());
+        }
+
+        System.arraycopy(snapshot, 0, array, 0, snapshot.length);
+        if (array.length > snapshot.length) {
+            array[snapshot.length] = null;
+        }
+        return array;
+    }
+
+    /**
+     * returns the elements of the list in square brackets.
+     *
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /*
+     * searches with the list's iterator, whose steps are bounded by the size it reads,
+     * so a search racing a writer ends even when it follows a half-updated link.
+     */
+    private boolean containsElement(Object object) {
+        for (E element : list) {
+            if (Objects.equals(object, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * runs the reader under an optimistic stamp. When a writer got in the way,
+     * whether the reader finished or tripped over a half-updated list,
+     * the reader runs again under the read lock.
+     */
+    private <R> R read(Supplier<R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /*
+     * runs the writer under the write lock.
+     */
+    private boolean write(Supplier<Boolean> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * SnapshotItr walks an array copied by one read of the list.
+     */
+    private class SnapshotItr implements Iterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+        private int lastReturned = -1;
+
+        /**
+         * constructs an iterator over the snapshot.
+         * @param snapshot elements of the list
+         */
+        SnapshotItr(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        /*
+         * returns true if there are more elements in the snapshot.
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        /*
+         * returns the next element of the snapshot.
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (E) snapshot[lastReturned];
+        }
+
+        /*
+         * removes the first element equal to the last one returned from the live list.
+         * @see java.util.Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            StampedLinkedList.this.remove(snapshot[lastReturned]);
+            lastReturned = -1;
+        }
+    }
+}
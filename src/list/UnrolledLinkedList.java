@@ -0,0 +1,632 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Unrolled doubly-linked list implementation of Collection interface.
+ * Every node holds a small array of elements instead of a single element,
+ * so the list needs far fewer node objects and sequential scans read
+ * neighbouring elements from the same array.
+ * The list can also be iterated forward and backward like LinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class UnrolledLinkedList<E> implements Collection<E> {
+    /**
+     * number of elements each node holds unless another capacity is given.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    private final int chunkCapacity;
+    private Chunk<E> head;
+    private Chunk<E> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * constructs an empty list whose nodes hold DEFAULT_CHUNK_CAPACITY elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * constructs an empty list whose nodes hold chunkCapacity elements.
+     *
+     * @param chunkCapacity - number of elements per node, at least 2
+     */
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("chunk capacity must be at least 2: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * gets the number of elements each node can hold.
+     *
+     * @return the chunk capacity
+     */
+    public int getChunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * appends the specified element to the end of the list.
+     *
+     * @param element - type of element
+     * @return true
+     */
+    @Override
+    public boolean add(E element) {
+        if (tail == null || tail.count == chunkCapacity) {
+            linkChunkAfter(tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * appends all of the elements in the specified collection to the end of the list.
+     *
+     * @param collection type of collection
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        for (E element : collection) {
+            add(element);
+        }
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Removes all of the elements from the list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * returns true if the list contains at least one of the specified element.
+     *
+     * @param object - search object
+     * @return true or false
+     */
+    @Override
+    public boolean contains(Object object) {
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            if (chunk.indexOf(object) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * returns true if the list contains all of the specified elements in the collection.
+     *
+     * @param collection - collection of objects
+     * @return true or false
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        for (Object object : collection) {
+            if (!contains(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * returns true if this collection contains no element.
+     *
+     * @return true or false
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * returns an iterator over the elements contained in the list.
+     *
+     * @return ListIterator point of the list
+     */
+    @Override
+    public ListIterator<E> iterator() {
+        return new ChunkItr();
+    }
+
+    /**
+     * removes a single instance of the specified element from the list.
+     *
+     * @param object that needs to be removed
+     * @return true or false
+     */
+    @Override
+    public boolean remove(Object object) {
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            int offset = chunk.indexOf(object);
+            if (offset >= 0) {
+                removeAt(chunk, offset);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * removes all of the list's elements that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Collection<?> lookup = LinkedList.hashedLookup(collection);
+        return removeIf(element -> lookup.contains(element));
+    }
+
+    /**
+     * retains only the elements in the list that are contained in the specified collection.
+     *
+     * @param collection - collection of objects
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Collection<?> lookup = LinkedList.hashedLookup(collection);
+        return removeIf(element -> !lookup.contains(element));
+    }
+
+    /**
+     * removes all of the elements of the list that satisfy the given predicate.
+     * Each node is compacted in place and emptied or sparse nodes are merged
+     * with their neighbours afterward, so the list is walked twice at most.
+     *
+     * @param filter - predicate which returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int removed = 0;
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            int kept = 0;
+            for (int i = 0; i < chunk.count; i++) {
+                E element = chunk.element(i);
+                if (!filter.test(element)) {
+                    chunk.elements[kept++] = element;
+                }
+            }
+            Arrays.fill(chunk.elements, kept, chunk.count, null);
+            removed += chunk.count - kept;
+            chunk.count = kept;
+        }
+
+        if (removed == 0) {
+            return false;
+        }
+
+        Chunk<E> chunk = head;
+        while (chunk != null) {
+            Chunk<E> nextChunk = chunk.next;
+            if (chunk.count == 0) {
+                unlinkChunk(chunk);
+            } else if (nextChunk != null && chunk.count + nextChunk.count <= chunkCapacity) {
+                mergeNext(chunk);
+                continue;
+            }
+            chunk = nextChunk;
+        }
+        size -= removed;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * returns the number of elements in this collection.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection.
+     *
+     * @return object array
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.elements, 0, array, index, chunk.count);
+            index += chunk.count;
+        }
+        return array;
+    }
+
+    /**
+     * returns an array containing all of the elements in this collection;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @return generic type array
+     */
+    @Override
+    public <T> T[] toArray(T[] array) {
+        if (array.length < size) {
+            array = Arrays.copyOf(array, size);
+        }
+
+        int index = 0;
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.elements, 0, array, index, chunk.count);
+            index += chunk.count;
+        }
+
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * returns the elements of the list in square brackets.
+     *
+     * @return string form of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(chunk.elements[i] == this ? "(this list)" : chunk.elements[i]);
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /*
+     * links a new empty chunk after the given chunk, or at the head when it is null.
+     */
+    private Chunk<E> linkChunkAfter(Chunk<E> chunk) {
+        Chunk<E> newChunk = new Chunk<E>(chunkCapacity);
+        Chunk<E> nextChunk = (chunk == null) ? head : chunk.next;
+        newChunk.previous = chunk;
+        newChunk.next = nextChunk;
+        if (chunk == null) {
+            head = newChunk;
+        } else {
+            chunk.next = newChunk;
+        }
+
+        if (nextChunk == null) {
+            tail = newChunk;
+        } else {
+            nextChunk.previous = newChunk;
+        }
+        return newChunk;
+    }
+
+    /*
+     * detaches the chunk from its neighbours.
+     */
+    private void unlinkChunk(Chunk<E> chunk) {
+        Chunk<E> nextChunk = chunk.next;
+        Chunk<E> prevChunk = chunk.previous;
+        if (prevChunk == null) {
+            head = nextChunk;
+        } else {
+            prevChunk.next = nextChunk;
+        }
+
+        if (nextChunk == null) {
+            tail = prevChunk;
+        } else {
+            nextChunk.previous = prevChunk;
+        }
+    }
+
+    /*
+     * moves every element of the following chunk into this one and unlinks it.
+     */
+    private void mergeNext(Chunk<E> chunk) {
+        Chunk<E> nextChunk = chunk.next;
+        System.arraycopy(nextChunk.elements, 0, chunk.elements, chunk.count, nextChunk.count);
+        chunk.count += nextChunk.count;
+        unlinkChunk(nextChunk);
+    }
+
+    /*
+     * removes the element at offset of the chunk. An emptied chunk is unlinked,
+     * and a chunk under half full absorbs its successor when both fit in one array.
+     */
+    private void removeAt(Chunk<E> chunk, int offset) {
+        int moved = chunk.count - offset - 1;
+        if (moved > 0) {
+            System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, moved);
+        }
+        chunk.elements[--chunk.count] = null;
+        size--;
+        modCount++;
+
+        if (chunk.count == 0) {
+            unlinkChunk(chunk);
+        } else if (chunk.count < chunkCapacity / 2 && chunk.next != null
+                && chunk.count + chunk.next.count <= chunkCapacity) {
+            mergeNext(chunk);
+        }
+    }
+
+    /*
+     * inserts the element at offset of the chunk. A full chunk is split in half first.
+     * Returns the chunk which received the element.
+     */
+    private Chunk<E> insertAt(Chunk<E> chunk, int offset, E element) {
+        Chunk<E> target = chunk;
+        if (chunk.count == chunkCapacity) {
+            int half = chunkCapacity / 2;
+            Chunk<E> upper = linkChunkAfter(chunk);
+            upper.count = chunkCapacity - half;
+            System.arraycopy(chunk.elements, half, upper.elements, 0, upper.count);
+            Arrays.fill(chunk.elements, half, chunkCapacity, null);
+            chunk.count = half;
+            if (offset > half) {
+                target = upper;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(target.elements, offset, target.elements, offset + 1, target.count - offset);
+        target.elements[offset] = element;
+        target.count++;
+        size++;
+        modCount++;
+        return target;
+    }
+
+    /*
+     * ChunkItr is a cursor made of a chunk and an offset inside it.
+     * A null chunk means the cursor is after the last element.
+     */
+    private class ChunkItr implements ListIterator<E> {
+        private Chunk<E> chunk = head;
+        private int offset;
+        private int nextIndex;
+        private Chunk<E> lastChunk;
+        private int lastOffset;
+        private boolean lastWasNext;
+        private int expectedModCount = modCount;
+
+        /*
+         * returns true if there are more elements in the forward direction.
+         * @see java.util.ListIterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /*
+         * returns the next element and advances the cursor position.
+         * @see java.util.ListIterator#next()
+         */
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastWasNext = true;
+            if (++offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            nextIndex++;
+            return lastChunk.element(lastOffset);
+        }
+
+        /*
+         * returns true if there are more elements in the reverse direction.
+         * @see java.util.ListIterator#hasPrevious()
+         */
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /*
+         * returns the previous element and moves the cursor position backward.
+         * @see java.util.ListIterator#previous()
+         */
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            if (chunk == null) {
+                chunk = tail;
+                offset = tail.count - 1;
+            } else if (offset == 0) {
+                chunk = chunk.previous;
+                offset = chunk.count - 1;
+            } else {
+                offset--;
+            }
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastWasNext = false;
+            nextIndex--;
+            return chunk.element(offset);
+        }
+
+        /*
+         * returns the index of the element returned by next.
+         * @see java.util.ListIterator#nextIndex()
+         */
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        /*
+         * returns the index of the element returned by previous.
+         * @see java.util.ListIterator#previousIndex()
+         */
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /*
+         * removes the element last returned by next or previous.
+         * @see java.util.ListIterator#remove()
+         */
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastChunk == null) {
+                throw new IllegalStateException();
+            }
+
+            Chunk<E> removedFrom = lastChunk;
+            Chunk<E> successor = removedFrom.next;
+            removeAt(removedFrom, lastOffset);
+            if (removedFrom.count == 0) {
+                chunk = successor;
+                offset = 0;
+            } else if (lastOffset < removedFrom.count) {
+                chunk = removedFrom;
+                offset = lastOffset;
+            } else {
+                chunk = removedFrom.next;
+                offset = 0;
+            }
+
+            if (lastWasNext) {
+                nextIndex--;
+            }
+            lastChunk = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * replaces the element last returned by next or previous.
+         * @see java.util.ListIterator#set(java.lang.Object)
+         */
+        @Override
+        public void set(E element) {
+            checkForComodification();
+            if (lastChunk == null) {
+                throw new IllegalStateException();
+            }
+            lastChunk.elements[lastOffset] = element;
+        }
+
+        /*
+         * inserts the element in front of the cursor.
+         * @see java.util.ListIterator#add(java.lang.Object)
+         */
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            if (chunk == null) {
+                UnrolledLinkedList.this.add(element);
+            } else {
+                Chunk<E> target = insertAt(chunk, offset, element);
+                if (target != chunk) {
+                    offset -= chunk.count;
+                }
+                chunk = target;
+                if (++offset == chunk.count) {
+                    chunk = chunk.next;
+                    offset = 0;
+                }
+            }
+            nextIndex++;
+            lastChunk = null;
+            expectedModCount = modCount;
+        }
+
+        /*
+         * fails fast when the list was changed other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /*
+     * Chunk class holds up to chunkCapacity elements in an array,
+     * plus references to the next and previous chunks.
+     */
+    private static class Chunk<E> {
+        private final Object[] elements;
+        private int count;
+        private Chunk<E> next;
+        private Chunk<E> previous;
+
+        /**
+         * constructs an empty chunk.
+         * @param capacity number of elements the chunk can hold
+         */
+        Chunk(int capacity) {
+            elements = new Object[capacity];
+        }
+
+        /**
+         * gets the element at offset.
+         * @param offset position inside the chunk
+         * @return the element
+         */
+        @SuppressWarnings("unchecked")
+        E element(int offset) {
+            return (E) elements[offset];
+        }
+
+        /**
+         * finds the first offset holding an element equal to object.
+         * @param object search object
+         * @return offset or -1
+         */
+        int indexOf(Object object) {
+            for (int i = 0; i < count; i++) {
+                if (Objects.equals(object, elements[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
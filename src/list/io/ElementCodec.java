@@ -0,0 +1,87 @@
+package list.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts list elements to and from bytes for LinkedListSerializer.
+ * A codec is either fixed width, where every element takes fixedSize() bytes
+ * and null elements cannot be written, or variable width, where the serializer
+ * stores a length before each element and writes null as length -1.
+ * ElementCodecs holds codecs for the primitive wrappers and UTF-8 strings;
+ * implement this interface for other element types.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public interface ElementCodec<E> {
+    /**
+     * returned by fixedSize() for codecs whose elements differ in length.
+     */
+    int VARIABLE_SIZE = -1;
+
+    /**
+     * returns the number of bytes every element takes, or VARIABLE_SIZE.
+     *
+     * @return bytes per element or VARIABLE_SIZE
+     */
+    int fixedSize();
+
+    /**
+     * returns an upper bound on the bytes encode writes for the element.
+     *
+     * @param element - non-null element
+     * @return maximum encoded length
+     */
+    int maxEncodedSize(E element);
+
+    /**
+     * writes the element at the buffer's position, which has at least
+     * maxEncodedSize(element) bytes remaining.
+     *
+     * @param element - non-null element
+     * @param out - buffer to write to
+     */
+    void encode(E element, ByteBuffer out);
+
+    /**
+     * reads an element of the given encoded length from the buffer's position.
+     *
+     * @param in - buffer to read from
+     * @param length - encoded length, fixedSize() for fixed width codecs
+     * @return the element
+     */
+    E decode(ByteBuffer in, int length);
+
+    /**
+     * writes the element at the offset without moving the buffer's position, so
+     * threads may share a buffer. The default encodes into a duplicate of the
+     * buffer; the fixed width codecs of ElementCodecs use absolute puts.
+     *
+     * @param element - non-null element
+     * @param out - buffer to write to
+     * @param offset - index of the first byte to write
+     */
+    default void encodeAt(E element, ByteBuffer out, int offset) {
+        ByteBuffer view = out.duplicate();
+        ((Buffer) view).position(offset);
+        encode(element, view);
+    }
+
+    /**
+     * reads an element of the given encoded length at the offset without moving
+     * the buffer's position, so threads may share a buffer.
+     *
+     * @param in - buffer to read from
+     * @param offset - index of the first byte to read
+     * @param length - encoded length, fixedSize() for fixed width codecs
+     * @return the element
+     */
+    default E decodeAt(ByteBuffer in, int offset, int length) {
+        ByteBuffer view = in.duplicate();
+        ((Buffer) view).position(offset);
+        return decode(view, length);
+    }
+}
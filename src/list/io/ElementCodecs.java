@@ -0,0 +1,180 @@
+package list.io;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs for the element types most lists hold.
+ * INT, LONG and DOUBLE are fixed width; UTF8 is variable width.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public final class ElementCodecs {
+    /**
+     * encodes an Integer in 4 bytes.
+     */
+    public static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int fixedSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int maxEncodedSize(Integer element) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer out) {
+            out.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer in, int length) {
+            return in.getInt();
+        }
+
+        @Override
+        public void encodeAt(Integer element, ByteBuffer out, int offset) {
+            out.putInt(offset, element);
+        }
+
+        @Override
+        public Integer decodeAt(ByteBuffer in, int offset, int length) {
+            return in.getInt(offset);
+        }
+    };
+
+    /**
+     * encodes a Long in 8 bytes.
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int fixedSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int maxEncodedSize(Long element) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer out) {
+            out.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer in, int length) {
+            return in.getLong();
+        }
+
+        @Override
+        public void encodeAt(Long element, ByteBuffer out, int offset) {
+            out.putLong(offset, element);
+        }
+
+        @Override
+        public Long decodeAt(ByteBuffer in, int offset, int length) {
+            return in.getLong(offset);
+        }
+    };
+
+    /**
+     * encodes a Double in 8 bytes.
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int fixedSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int maxEncodedSize(Double element) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer out) {
+            out.putDouble(element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer in, int length) {
+            return in.getDouble();
+        }
+
+        @Override
+        public void encodeAt(Double element, ByteBuffer out, int offset) {
+            out.putDouble(offset, element);
+        }
+
+        @Override
+        public Double decodeAt(ByteBuffer in, int offset, int length) {
+            return in.getDouble(offset);
+        }
+    };
+
+    /**
+     * encodes a String as UTF-8 straight into the buffer.
+     * Unpaired surrogates are written as '?', as String.getBytes does.
+     */
+    public static final ElementCodec<String> UTF8 = new ElementCodec<String>() {
+        @Override
+        public int fixedSize() {
+            return VARIABLE_SIZE;
+        }
+
+        @Override
+        public int maxEncodedSize(String element) {
+            return element.length() * 3;
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer out) {
+            int length = element.length();
+            for (int i = 0; i < length; i++) {
+                char c = element.charAt(i);
+                if (c < 0x80) {
+                    out.put((byte) c);
+                } else if (c < 0x800) {
+                    out.put((byte) (0xC0 | (c >> 6)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(element.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, element.charAt(++i));
+                    out.put((byte) (0xF0 | (codePoint >> 18)));
+                    out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    out.put((byte) '?');
+                } else {
+                    out.put((byte) (0xE0 | (c >> 12)));
+                    out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer in, int length) {
+            if (in.hasArray()) {
+                int offset = in.arrayOffset() + in.position();
+                ((Buffer) in).position(in.position() + length);
+                return new String(in.array(), offset, length, StandardCharsets.UTF_8);
+            }
+
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private ElementCodecs() {
+    }
+}
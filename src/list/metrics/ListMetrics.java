@@ -0,0 +1,466 @@
+package list.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Records what the operations of a list cost: calls, nodes walked past per call,
+ * latency, and nodes allocated, reused and unlinked. A list records into its
+ * metrics only after LinkedList.setMetrics is called; until then every operation
+ * pays a single null check. One instance may be shared by several lists and
+ * threads. Traversal and latency are kept in histograms with power-of-two buckets,
+ * so percentiles are upper bounds within a factor of two.
+ * Calls walking past at least the trace threshold of nodes also count their
+ * call site, the first stack frame outside the list, to find code which turns
+ * a list into a quadratic loop. Results are read through snapshot() or through
+ * JMX after register.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class ListMetrics implements ListMetricsMXBean {
+    /*
+     * one bucket for zero and one for every bit length of a long.
+     */
+    private static final int BUCKETS = 65;
+    private static final int MAX_CALL_SITES = 1024;
+    private static final String LIST_CLASS = "list.LinkedList";
+    private static final String METRICS_PACKAGE = "list.metrics.";
+
+    /**
+     * operations a list records. size is cached by the list,
+     * so it never walks and is not recorded.
+     */
+    public enum Operation {
+        ADD,
+        ADD_AT,
+        GET,
+        SET,
+        REMOVE_AT,
+        CONTAINS,
+        INDEX_OF,
+        LAST_INDEX_OF,
+        REMOVE_OBJECT,
+        REMOVE_LAST_OCCURRENCE,
+        REMOVE_ALL,
+        RETAIN_ALL,
+        REMOVE_IF,
+        CLEAR
+    }
+
+    private final Counters[] counters;
+    private final LongAdder nodesAllocated;
+    private final LongAdder nodesReused;
+    private final LongAdder nodesUnlinked;
+    private final Map<String, LongAdder> longCallSites;
+    private volatile long traceThreshold;
+    private ObjectName objectName;
+
+    /**
+     * constructs metrics with every counter at zero and call site tracing off.
+     */
+    public ListMetrics() {
+        counters = new Counters[Operation.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counters();
+        }
+        nodesAllocated = new LongAdder();
+        nodesReused = new LongAdder();
+        nodesUnlinked = new LongAdder();
+        longCallSites = new ConcurrentHashMap<String, LongAdder>();
+        traceThreshold = Long.MAX_VALUE;
+    }
+
+    /**
+     * records one call of the operation.
+     *
+     * @param operation - operation called
+     * @param traversed - number of nodes the call walked past
+     * @param nanos - latency of the call
+     */
+    public void record(Operation operation, long traversed, long nanos) {
+        Counters counter = counters[operation.ordinal()];
+        counter.traversed.add(traversed);
+        counter.nanos.add(nanos);
+        counter.maxTraversal.accumulate(traversed);
+        counter.traversalHistogram.incrementAndGet(bucket(traversed));
+        counter.latencyHistogram.incrementAndGet(bucket(nanos));
+        if (traversed >= traceThreshold) {
+            traceCallSite(operation);
+        }
+    }
+
+    /**
+     * records a node created for an element.
+     *
+     * @param reused - true if the node came from a node pool
+     */
+    public void nodeCreated(boolean reused) {
+        (reused ? nodesReused : nodesAllocated).increment();
+    }
+
+    /**
+     * records nodes leaving a list.
+     *
+     * @param count - number of nodes unlinked
+     */
+    public void nodesUnlinked(long count) {
+        nodesUnlinked.add(count);
+    }
+
+    /**
+     * returns the statistics of every operation called at least once.
+     *
+     * @return statistics by operation
+     */
+    public Map<Operation, OperationStats> snapshot() {
+        Map<Operation, OperationStats> stats = new EnumMap<Operation, OperationStats>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            OperationStats stat = stats(operation);
+            if (stat.getCalls() > 0) {
+                stats.put(operation, stat);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * returns the statistics of one operation.
+     *
+     * @param operation - operation to report
+     * @return statistics of the operation
+     */
+    public OperationStats stats(Operation operation) {
+        Counters counter = counters[operation.ordinal()];
+        return new OperationStats(operation, counter.traversed.sum(), counter.maxTraversal.get(),
+                counter.nanos.sum(), toArray(counter.traversalHistogram), toArray(counter.latencyHistogram));
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        return byOperation(OperationStats::getCalls);
+    }
+
+    @Override
+    public Map<String, Long> getNodesTraversed() {
+        return byOperation(OperationStats::getNodesTraversed);
+    }
+
+    @Override
+    public Map<String, Long> getTraversalP99() {
+        return byOperation(stat -> stat.getTraversalPercentile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return byOperation(stat -> stat.getLatencyPercentile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getLongCallSites() {
+        Map<String, Long> sites = new TreeMap<String, Long>();
+        for (Map.Entry<String, LongAdder> entry : longCallSites.entrySet()) {
+            sites.put(entry.getKey(), entry.getValue().sum());
+        }
+        return sites;
+    }
+
+    @Override
+    public long getNodesAllocated() {
+        return nodesAllocated.sum();
+    }
+
+    @Override
+    public long getNodesReused() {
+        return nodesReused.sum();
+    }
+
+    @Override
+    public long getNodesUnlinked() {
+        return nodesUnlinked.sum();
+    }
+
+    @Override
+    public long getTraceThreshold() {
+        return traceThreshold;
+    }
+
+    @Override
+    public void setTraceThreshold(long nodes) {
+        if (nodes < 0) {
+            throw new IllegalArgumentException("negative trace threshold: " + nodes);
+        }
+        traceThreshold = nodes;
+    }
+
+    @Override
+    public void reset() {
+        for (Counters counter : counters) {
+            counter.reset();
+        }
+        nodesAllocated.reset();
+        nodesReused.reset();
+        nodesUnlinked.reset();
+        longCallSites.clear();
+    }
+
+    /**
+     * registers the metrics with the platform MBean server.
+     *
+     * @param name - name which tells the list apart from other registered lists
+     * @return name the metrics are registered under
+     * @throws JMException if the name is taken or invalid
+     */
+    public synchronized ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("list.metrics:type=ListMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        this.objectName = objectName;
+        return objectName;
+    }
+
+    /**
+     * removes the metrics from the platform MBean server if they are registered.
+     *
+     * @throws JMException if the server refuses
+     */
+    public synchronized void unregister() throws JMException {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        }
+    }
+
+    /*
+     * counts the first stack frame outside LinkedList and the metrics under the operation.
+     */
+    private void traceCallSite(Operation operation) {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String className = frame.getClassName();
+            if (!className.startsWith(LIST_CLASS) && !className.startsWith(METRICS_PACKAGE)) {
+                String site = operation + " at " + frame;
+                LongAdder count = longCallSites.get(site);
+                if (count == null && longCallSites.size() < MAX_CALL_SITES) {
+                    count = longCallSites.computeIfAbsent(site, key -> new LongAdder());
+                }
+                if (count != null) {
+                    count.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    /*
+     * maps the name of every called operation to a value of its statistics.
+     */
+    private Map<String, Long> byOperation(ToLongFunction<OperationStats> value) {
+        Map<String, Long> values = new TreeMap<String, Long>();
+        for (OperationStats stat : snapshot().values()) {
+            values.put(stat.getOperation().name(), value.applyAsLong(stat));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    /*
+     * returns the histogram bucket of a value, which is its bit length.
+     */
+    private static int bucket(long value) {
+        return (value <= 0) ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /*
+     * copies the buckets of a histogram.
+     */
+    private static long[] toArray(AtomicLongArray histogram) {
+        long[] array = new long[histogram.length()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = histogram.get(i);
+        }
+        return array;
+    }
+
+    /*
+     * Counters holds the running totals of one operation.
+     */
+    private static final class Counters {
+        private final LongAdder traversed = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxTraversal = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray traversalHistogram = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray latencyHistogram = new AtomicLongArray(BUCKETS);
+
+        /*
+         * sets the totals back to zero.
+         */
+        private void reset() {
+            traversed.reset();
+            nanos.reset();
+            maxTraversal.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                traversalHistogram.set(i, 0);
+                latencyHistogram.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * immutable statistics of one operation at the time they were taken.
+     */
+    public static final class OperationStats {
+        private final Operation operation;
+        private final long calls;
+        private final long nodesTraversed;
+        private final long maxTraversal;
+        private final long totalNanos;
+        private final long[] traversalHistogram;
+        private final long[] latencyHistogram;
+
+        private OperationStats(Operation operation, long nodesTraversed, long maxTraversal, long totalNanos,
+                long[] traversalHistogram, long[] latencyHistogram) {
+            long calls = 0;
+            for (long count : traversalHistogram) {
+                calls += count;
+            }
+            this.operation = operation;
+            this.calls = calls;
+            this.nodesTraversed = nodesTraversed;
+            this.maxTraversal = maxTraversal;
+            this.totalNanos = totalNanos;
+            this.traversalHistogram = traversalHistogram;
+            this.latencyHistogram = latencyHistogram;
+        }
+
+        /**
+         * gets the operation the statistics belong to.
+         *
+         * @return the operation
+         */
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * gets the number of calls.
+         *
+         * @return the calls
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * gets the total number of nodes the calls walked past.
+         *
+         * @return traversed nodes
+         */
+        public long getNodesTraversed() {
+            return nodesTraversed;
+        }
+
+        /**
+         * gets the average number of nodes one call walked past.
+         *
+         * @return mean traversal, 0 without calls
+         */
+        public double getMeanTraversal() {
+            return (calls == 0) ? 0 : (double) nodesTraversed / calls;
+        }
+
+        /**
+         * gets the largest number of nodes one call walked past.
+         *
+         * @return maximum traversal
+         */
+        public long getMaxTraversal() {
+            return maxTraversal;
+        }
+
+        /**
+         * gets the total latency of the calls.
+         *
+         * @return nanoseconds spent in the operation
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * gets the number of calls per traversal bucket. Bucket 0 counts calls
+         * which walked past no node and bucket k those which walked past
+         * 2^(k-1) to 2^k - 1 nodes.
+         *
+         * @return copy of the histogram
+         */
+        public long[] getTraversalHistogram() {
+            return traversalHistogram.clone();
+        }
+
+        /**
+         * gets an upper bound of the traversal below which the fraction of calls fall.
+         *
+         * @param fraction - percentile between 0 and 1, e.g. 0.99
+         * @return traversal percentile in nodes
+         */
+        public long getTraversalPercentile(double fraction) {
+            return percentile(traversalHistogram, fraction);
+        }
+
+        /**
+         * gets an upper bound of the latency below which the fraction of calls fall.
+         *
+         * @param fraction - percentile between 0 and 1, e.g. 0.99
+         * @return latency percentile in nanoseconds
+         */
+        public long getLatencyPercentile(double fraction) {
+            return percentile(latencyHistogram, fraction);
+        }
+
+        /**
+         * returns the operation and its main figures.
+         *
+         * @return string form of the statistics
+         */
+        @Override
+        public String toString() {
+            return operation + "[calls=" + calls + ", traversed=" + nodesTraversed
+                    + ", p99Traversal=" + getTraversalPercentile(0.99)
+                    + ", maxTraversal=" + maxTraversal
+                    + ", p99Nanos=" + getLatencyPercentile(0.99) + "]";
+        }
+
+        /*
+         * finds the bucket holding the percentile and returns its largest value.
+         */
+        private long percentile(long[] histogram, double fraction) {
+            if (fraction < 0 || fraction > 1) {
+                throw new IllegalArgumentException("fraction out of range: " + fraction);
+            }
+            if (calls == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(fraction * calls));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return (i == 0) ? 0 : (i == Long.SIZE) ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package list.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of ListMetrics. Per operation values are keyed by
+ * the name of the ListMetrics.Operation; operations never called are left out.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public interface ListMetricsMXBean {
+
+    /**
+     * gets the number of calls of each operation.
+     *
+     * @return calls by operation
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * gets the total number of nodes each operation walked past.
+     *
+     * @return traversed nodes by operation
+     */
+    Map<String, Long> getNodesTraversed();
+
+    /**
+     * gets the 99th percentile of the nodes one call of each operation walked past.
+     *
+     * @return traversal percentile by operation
+     */
+    Map<String, Long> getTraversalP99();
+
+    /**
+     * gets the 99th percentile of the latency of each operation in nanoseconds.
+     *
+     * @return latency percentile by operation
+     */
+    Map<String, Long> getLatencyP99Nanos();
+
+    /**
+     * gets how often each call site made a call which walked past at least
+     * the trace threshold of nodes.
+     *
+     * @return long calls by call site
+     */
+    Map<String, Long> getLongCallSites();
+
+    /**
+     * gets the number of nodes created by allocation.
+     *
+     * @return allocated nodes
+     */
+    long getNodesAllocated();
+
+    /**
+     * gets the number of nodes taken from a node pool instead of allocated.
+     *
+     * @return reused nodes
+     */
+    long getNodesReused();
+
+    /**
+     * gets the number of nodes unlinked, including the nodes dropped by clear.
+     *
+     * @return unlinked nodes
+     */
+    long getNodesUnlinked();
+
+    /**
+     * gets the number of nodes a call must walk past before its call site is traced.
+     *
+     * @return trace threshold
+     */
+    long getTraceThreshold();
+
+    /**
+     * sets the number of nodes a call must walk past before its call site is traced.
+     *
+     * @param nodes - trace threshold, Long.MAX_VALUE turns tracing off
+     */
+    void setTraceThreshold(long nodes);
+
+    /**
+     * sets every counter back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,257 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import list.BoundedLinkedBlockingQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class BoundedLinkedBlockingQueue.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class BoundedLinkedBlockingQueueTest {
+
+    private BoundedLinkedBlockingQueue<Integer> myQueue;
+
+    /**
+     * setup new empty queue of capacity 4.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myQueue = new BoundedLinkedBlockingQueue<Integer>(4);
+    }
+
+    /**
+     * destroys the queue.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myQueue = null;
+    }
+
+    /**
+     * Test method for first-in first-out order and the capacity bound.
+     * {@link list.BoundedLinkedBlockingQueue#offer(java.lang.Object)}.
+     */
+    @Test
+    public void testOfferPollAndCapacity() {
+        assertNull(myQueue.poll());
+        assertNull(myQueue.peek());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(myQueue.offer(i));
+        }
+        assertFalse(myQueue.offer(4));
+        assertEquals(myQueue.size(), 4);
+        assertEquals(myQueue.remainingCapacity(), 0);
+        assertEquals(myQueue.peek(), Integer.valueOf(0));
+        assertEquals(myQueue.poll(), Integer.valueOf(0));
+        assertTrue(myQueue.offer(4));
+        assertArrayEquals(myQueue.toArray(), new Object[] {1, 2, 3, 4});
+        assertEquals(myQueue.toString(), "[1, 2, 3, 4]");
+    }
+
+    /**
+     * Test method for timed offer and poll giving up.
+     * {@link list.BoundedLinkedBlockingQueue#poll(long, java.util.concurrent.TimeUnit)}.
+     *
+     * @throws InterruptedException - when interrupted
+     */
+    @Test
+    public void testTimeouts() throws InterruptedException {
+        long start = System.nanoTime();
+        assertNull(myQueue.poll(20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        for (int i = 0; i < 4; i++) {
+            myQueue.put(i);
+        }
+        start = System.nanoTime();
+        assertFalse(myQueue.offer(9, 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(myQueue.poll(0, TimeUnit.SECONDS), Integer.valueOf(0));
+        assertTrue(myQueue.offer(9, 0, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test method for a blocked put waking when a consumer takes.
+     * {@link list.BoundedLinkedBlockingQueue#put(java.lang.Object)}.
+     *
+     * @throws Exception - when the producer fails
+     */
+    @Test
+    public void testPutWaitsForTake() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            myQueue.put(i);
+        }
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = pool.submit(() -> {
+                myQueue.put(4);
+                return null;
+            });
+            Thread.sleep(20);
+            assertFalse(producer.isDone());
+            assertEquals(myQueue.take(), Integer.valueOf(0));
+            producer.get(5, TimeUnit.SECONDS);
+            assertEquals(myQueue.toString(), "[1, 2, 3, 4]");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Test method for draining a batch, which frees room for producers.
+     * {@link list.BoundedLinkedBlockingQueue#drainTo(java.util.Collection, int)}.
+     */
+    @Test
+    public void testDrainTo() {
+        for (int i = 0; i < 4; i++) {
+            myQueue.offer(i);
+        }
+        List<Integer> batch = new ArrayList<Integer>();
+        assertEquals(myQueue.drainTo(batch, 3), 3);
+        assertEquals(batch.toString(), "[0, 1, 2]");
+        assertEquals(myQueue.drainTo(batch, 0), 0);
+        assertTrue(myQueue.offer(4));
+        assertEquals(myQueue.drainTo(batch), 2);
+        assertEquals(batch.toString(), "[0, 1, 2, 3, 4]");
+        assertTrue(myQueue.isEmpty());
+        assertEquals(myQueue.drainTo(batch), 0);
+
+        for (int i = 0; i < 4; i++) {
+            myQueue.offer(i);
+        }
+        assertEquals(myQueue.remainingCapacity(), 0);
+        myQueue.clear();
+        assertEquals(myQueue.remainingCapacity(), 4);
+        assertTrue(myQueue.offer(7));
+        assertEquals(myQueue.poll(), Integer.valueOf(7));
+    }
+
+    /**
+     * Test method for removing from the middle and iterating while consumers take.
+     * {@link list.BoundedLinkedBlockingQueue#iterator()}.
+     */
+    @Test
+    public void testRemoveAndIterator() {
+        for (int i = 0; i < 4; i++) {
+            myQueue.offer(i);
+        }
+        assertTrue(myQueue.remove(3));
+        assertFalse(myQueue.remove(3));
+        assertTrue(myQueue.contains(2));
+        assertTrue(myQueue.offer(5));
+        assertEquals(myQueue.toString(), "[0, 1, 2, 5]");
+
+        Iterator<Integer> it = myQueue.iterator();
+        assertEquals(it.next(), Integer.valueOf(0));
+        myQueue.poll();
+        myQueue.poll();
+        assertEquals(it.next(), Integer.valueOf(1));
+        assertEquals(it.next(), Integer.valueOf(2));
+        it.remove();
+        assertEquals(it.next(), Integer.valueOf(5));
+        assertFalse(it.hasNext());
+        assertEquals(myQueue.toString(), "[5]");
+    }
+
+    /**
+     * Test method for rejecting null elements.
+     * {@link list.BoundedLinkedBlockingQueue#offer(java.lang.Object)}.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testOfferNull() {
+        myQueue.offer(null);
+    }
+
+    /**
+     * Test method for many producers and batch consumers on a small queue.
+     * {@link list.BoundedLinkedBlockingQueue#drainTo(java.util.Collection, int)}.
+     *
+     * @throws Exception - when a thread fails
+     */
+    @Test
+    public void testProducersAndConsumers() throws Exception {
+        final int producers = 8;
+        final int perProducer = 5000;
+        final int total = producers * perProducer;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger remaining = new AtomicInteger(total);
+        final boolean[] seen = new boolean[total];
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 3);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    myQueue.put(base + i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < 3; c++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                List<Integer> batch = new ArrayList<Integer>();
+                while (remaining.get() > 0) {
+                    if (myQueue.drainTo(batch, 3) == 0) {
+                        Integer element = myQueue.poll(1, TimeUnit.MILLISECONDS);
+                        if (element != null) {
+                            batch.add(element);
+                        }
+                    }
+                    synchronized (seen) {
+                        for (Integer element : batch) {
+                            assertFalse(seen[element]);
+                            seen[element] = true;
+                        }
+                    }
+                    remaining.addAndGet(-batch.size());
+                    batch.clear();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (boolean element : seen) {
+            assertTrue(element);
+        }
+        assertTrue(myQueue.isEmpty());
+        assertEquals(myQueue.remainingCapacity(), 4);
+    }
+}
@@ -0,0 +1,218 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import list.ConcurrentLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class ConcurrentLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class ConcurrentLinkedListTest {
+
+    private ConcurrentLinkedList<String> myList;
+    final String[] values = { "hello", "test", "kale", "nomad", "apple", "fish" };
+    final String[] test2 = { "apple", "fish", "car", "garage", "apple" };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new ConcurrentLinkedList<String>();
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding and finding elements.
+     * {@link list.ConcurrentLinkedList#add(java.lang.Object)}.
+     */
+    @Test
+    public void testAddAndContains() {
+        assertTrue(myList.isEmpty());
+        myList.addAll(Arrays.asList(values));
+        assertEquals(myList.size(), values.length);
+        assertTrue(myList.contains("kale"));
+        assertFalse(myList.contains("apples"));
+        assertFalse(myList.contains(null));
+        assertArrayEquals(myList.toArray(), values);
+    }
+
+    /**
+     * Test method for rejecting null elements.
+     * {@link list.ConcurrentLinkedList#add(java.lang.Object)}.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        myList.add(null);
+    }
+
+    /**
+     * Test method for removing elements from the head, middle and tail.
+     * {@link list.ConcurrentLinkedList#remove(java.lang.Object)}.
+     */
+    @Test
+    public void testRemove() {
+        myList.addAll(Arrays.asList(test2));
+        assertTrue(myList.remove("apple"));
+        assertTrue(myList.remove("car"));
+        assertTrue(myList.remove("apple"));
+        assertFalse(myList.remove("apple"));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "garage"});
+
+        myList.add("kale");
+        assertArrayEquals(myList.toArray(new String[0]), new String[] {"fish", "garage", "kale"});
+    }
+
+    /**
+     * Test method for bulk removal.
+     * {@link list.ConcurrentLinkedList#removeAll(java.util.Collection)}.
+     */
+    @Test
+    public void testRemoveAllRetainAllAndClear() {
+        myList.addAll(Arrays.asList(test2));
+        assertTrue(myList.removeAll(Arrays.asList("apple", "car")));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "garage"});
+        assertTrue(myList.retainAll(Arrays.asList("garage")));
+        assertArrayEquals(myList.toArray(), new Object[] {"garage"});
+
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        assertEquals(myList.size(), 0);
+        myList.add("fish");
+        assertArrayEquals(myList.toArray(), new Object[] {"fish"});
+    }
+
+    /**
+     * Test method for removing through the iterator.
+     * {@link list.ConcurrentLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorRemove() {
+        myList.addAll(Arrays.asList(values));
+        Iterator<String> it = myList.iterator();
+        while (it.hasNext()) {
+            if (it.next().length() == 4) {
+                it.remove();
+            }
+        }
+        assertArrayEquals(myList.toArray(), new Object[] {"hello", "nomad", "apple"});
+    }
+
+    /**
+     * Test method for an iterator seeing elements appended while it runs.
+     * {@link list.ConcurrentLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorIsWeaklyConsistent() {
+        myList.addAll(Arrays.asList(values));
+        List<String> seen = new ArrayList<String>();
+        for (String value : myList) {
+            seen.add(value);
+            if (value.equals("hello")) {
+                myList.remove("kale");
+                myList.add("car");
+            }
+        }
+        assertEquals(seen, Arrays.asList("hello", "test", "nomad", "apple", "fish", "car"));
+    }
+
+    /**
+     * Test method for many threads appending, removing and iterating at once.
+     * {@link list.ConcurrentLinkedList#add(java.lang.Object)}.
+     */
+    @Test
+    public void testConcurrentAppendAndRemove() throws Exception {
+        final int producers = 4;
+        final int perProducer = 20000;
+        final ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<Integer>();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(producers * 2 + 1);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    list.add(base + i);
+                }
+                return null;
+            }));
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i += 3) {
+                    while (!list.remove(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+        futures.add(pool.submit(() -> {
+            start.await();
+            for (int round = 0; round < 20; round++) {
+                for (Integer value : list) {
+                    assertTrue(value != null);
+                }
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Set<Integer> expected = new HashSet<Integer>();
+        for (int p = 0; p < producers; p++) {
+            for (int i = 0; i < perProducer; i++) {
+                if (i % 3 != 0) {
+                    expected.add(p * perProducer + i);
+                }
+            }
+        }
+        List<Integer> remaining = new ArrayList<Integer>();
+        for (Integer value : list) {
+            remaining.add(value);
+        }
+        assertEquals(remaining.size(), expected.size());
+        assertEquals(new HashSet<Integer>(remaining), expected);
+        assertEquals(list.size(), expected.size());
+    }
+}
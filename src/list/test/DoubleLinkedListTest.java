@@ -0,0 +1,151 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import list.DoubleLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class DoubleLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class DoubleLinkedListTest {
+
+    private DoubleLinkedList myList;
+    final double[] values = { 4.5, 8.0, 15.25, 16.0, 23.75, 42.0, 1e300 };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new DoubleLinkedList(2);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding values past the initial capacity.
+     * {@link list.DoubleLinkedList#add(double)}.
+     */
+    @Test
+    public void testAdd() {
+        for (double value : values) {
+            assertTrue(myList.add(value));
+        }
+        assertEquals(myList.size(), values.length);
+        assertArrayEquals(myList.toArray(), values, 0.0);
+    }
+
+    /**
+     * Test method for finding and removing values.
+     * {@link list.DoubleLinkedList#remove(double)}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        myList.addAll(values);
+        assertTrue(myList.contains(values[2]));
+        assertTrue(myList.remove(values[0]));
+        assertTrue(myList.remove(values[values.length - 1]));
+        assertFalse(myList.contains(values[0]));
+        assertFalse(myList.remove(99.0));
+        assertEquals(myList.size(), values.length - 2);
+
+        myList.add(values[0]);
+        assertTrue(myList.contains(values[0]));
+        assertEquals(myList.size(), values.length - 1);
+
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        assertFalse(myList.contains(values[2]));
+    }
+
+    /**
+     * Test method for iterating and removing through the iterator.
+     * {@link list.DoubleLinkedList#iterator()}.
+     */
+    @Test
+    public void testIterator() {
+        myList.addAll(values);
+        PrimitiveIterator.OfDouble it = myList.iterator();
+        int index = 0;
+        while (it.hasNext()) {
+            assertEquals(it.nextDouble(), values[index], 0.0);
+            if (index % 2 == 0) {
+                it.remove();
+            }
+            index++;
+        }
+        assertEquals(index, values.length);
+        assertEquals(myList.size(), values.length / 2);
+        assertEquals(myList.stream().count(), values.length / 2);
+    }
+
+    /**
+     * Test method for streaming the values.
+     * {@link list.DoubleLinkedList#stream()}.
+     */
+    @Test
+    public void testStream() {
+        myList.addAll(values);
+        assertArrayEquals(myList.stream().toArray(), values, 0.0);
+    }
+
+    /**
+     * Test method for iterating past the end.
+     * {@link list.DoubleLinkedList#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorEmptyList() {
+        myList.iterator().nextDouble();
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.DoubleLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(values);
+        PrimitiveIterator.OfDouble it = myList.iterator();
+        it.nextDouble();
+        myList.remove(values[3]);
+        it.nextDouble();
+    }
+
+    /**
+     * Test method for finding NaN the way Double.equals does.
+     * {@link list.DoubleLinkedList#contains(double)}.
+     */
+    @Test
+    public void testContainsNaN() {
+        myList.add(Double.NaN);
+        myList.add(0.0);
+        assertTrue(myList.contains(Double.NaN));
+        assertFalse(myList.contains(-0.0));
+    }
+}
@@ -0,0 +1,179 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import list.HashedLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class HashedLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class HashedLinkedListTest {
+
+    private HashedLinkedList<String> myList;
+    final String[] values = { "hello", "test", "kale", "nomad", "apple", "fish" };
+    final String[] test2 = { "apple", "fish", "car", "garage", "apple" };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new HashedLinkedList<String>();
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding and finding elements, including duplicates and null.
+     * {@link list.HashedLinkedList#contains(java.lang.Object)}.
+     */
+    @Test
+    public void testAddAndContains() {
+        assertTrue(myList.isEmpty());
+        myList.addAll(Arrays.asList(values));
+        myList.addAll(Arrays.asList(test2));
+        myList.add(null);
+        assertEquals(myList.size(), values.length + test2.length + 1);
+        assertTrue(myList.contains("kale"));
+        assertTrue(myList.contains(null));
+        assertFalse(myList.contains("apples"));
+        assertTrue(myList.containsAll(Arrays.asList("garage", "hello")));
+        assertEquals(myList.occurrences("apple"), 3);
+        assertEquals(myList.occurrences("car"), 1);
+        assertEquals(myList.occurrences("boat"), 0);
+        assertEquals(myList.toString(),
+                "[hello, test, kale, nomad, apple, fish, apple, fish, car, garage, apple, null]");
+    }
+
+    /**
+     * Test method for removing the first occurrence of an element.
+     * {@link list.HashedLinkedList#remove(java.lang.Object)}.
+     */
+    @Test
+    public void testRemoveFirstOccurrence() {
+        myList.addAll(Arrays.asList(test2));
+        assertTrue(myList.remove("apple"));
+        assertFalse(myList.remove("kale"));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "car", "garage", "apple"});
+        assertTrue(myList.remove("apple"));
+        assertFalse(myList.contains("apple"));
+        myList.add("apple");
+        assertArrayEquals(myList.toArray(new String[0]), new String[] {"fish", "car", "garage", "apple"});
+    }
+
+    /**
+     * Test method for bulk removal and retention.
+     * {@link list.HashedLinkedList#removeAll(java.util.Collection)}.
+     */
+    @Test
+    public void testRemoveAllAndRetainAll() {
+        myList.addAll(Arrays.asList(test2));
+        myList.addAll(Arrays.asList(values));
+        assertTrue(myList.removeAll(Arrays.asList("apple", "car")));
+        assertEquals(myList.size(), 7);
+        assertFalse(myList.contains("apple"));
+
+        assertTrue(myList.retainAll(Arrays.asList("fish", "kale")));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "kale", "fish"});
+        assertFalse(myList.retainAll(Arrays.asList("fish", "kale")));
+        assertTrue(myList.removeAll(myList));
+        assertTrue(myList.isEmpty());
+    }
+
+    /**
+     * Test method for removing through the iterator.
+     * {@link list.HashedLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorRemove() {
+        myList.addAll(Arrays.asList(values));
+        Iterator<String> it = myList.iterator();
+        while (it.hasNext()) {
+            if (it.next().length() == 4) {
+                it.remove();
+            }
+        }
+        assertArrayEquals(myList.toArray(), new Object[] {"hello", "nomad", "apple"});
+        assertFalse(myList.contains("fish"));
+    }
+
+    /**
+     * Test method for iterating an empty list.
+     * {@link list.HashedLinkedList#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorEmptyList() {
+        Iterator<String> it = myList.iterator();
+        assertFalse(it.hasNext());
+        it.next();
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.HashedLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(Arrays.asList(values));
+        Iterator<String> it = myList.iterator();
+        it.next();
+        myList.remove("kale");
+        it.next();
+    }
+
+    /**
+     * Test method for random adds and removes against an ArrayList.
+     * {@link list.HashedLinkedList#remove(java.lang.Object)}.
+     */
+    @Test
+    public void testMatchesArrayList() {
+        Random rand = new Random(42);
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 20000; i++) {
+            String value = "" + rand.nextInt(40);
+            int op = rand.nextInt(10);
+            if (op < 5) {
+                expected.add(value);
+                myList.add(value);
+            } else if (op < 9) {
+                assertEquals(expected.remove(value), myList.remove(value));
+            } else {
+                List<String> batch = Arrays.asList(value, "" + rand.nextInt(40));
+                assertEquals(expected.removeAll(batch), myList.removeAll(batch));
+            }
+            assertEquals(expected.contains(value), myList.contains(value));
+            assertEquals(expected.size(), myList.size());
+        }
+        assertArrayEquals(expected.toArray(), myList.toArray());
+    }
+}
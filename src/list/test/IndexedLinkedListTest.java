@@ -0,0 +1,182 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import list.IndexedLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class IndexedLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class IndexedLinkedListTest {
+
+    private IndexedLinkedList<Integer> myList;
+
+    /**
+     * setup new empty list of ints.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new IndexedLinkedList<Integer>();
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for appending and reading every position.
+     * {@link list.IndexedLinkedList#get(int)}.
+     */
+    @Test
+    public void testAppendAndGet() {
+        for (int i = 0; i < 10000; i++) {
+            myList.add(i);
+        }
+        assertEquals(myList.size(), 10000);
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(myList.get(i), Integer.valueOf(i));
+        }
+        assertEquals(myList.getFirst(), Integer.valueOf(0));
+        assertEquals(myList.getLast(), Integer.valueOf(9999));
+        assertEquals(myList.indexOf(5000), 5000);
+    }
+
+    /**
+     * Test method for random positional edits against an ArrayList.
+     * {@link list.IndexedLinkedList#add(int, java.lang.Object)}.
+     */
+    @Test
+    public void testMatchesArrayList() {
+        Random rand = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 50000; i++) {
+            int op = rand.nextInt(10);
+            if (op < 3 || expected.isEmpty()) {
+                int index = rand.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                myList.add(index, i);
+            } else if (op < 5) {
+                expected.add(i);
+                myList.add(i);
+            } else if (op < 7) {
+                int index = rand.nextInt(expected.size());
+                assertEquals(myList.remove(index), expected.remove(index));
+            } else if (op == 7) {
+                int index = rand.nextInt(expected.size());
+                assertEquals(myList.set(index, -i), expected.set(index, -i));
+            } else {
+                int index = rand.nextInt(expected.size());
+                assertEquals(myList.get(index), expected.get(index));
+            }
+            if (i % 5000 == 0) {
+                assertEquals(myList, expected);
+            }
+        }
+        assertEquals(myList, expected);
+        assertEquals(myList.getLast(), expected.get(expected.size() - 1));
+
+        List<Integer> backward = new ArrayList<Integer>();
+        ListIterator<Integer> it = myList.listIterator(myList.size());
+        while (it.hasPrevious()) {
+            backward.add(0, it.previous());
+        }
+        assertEquals(backward, expected);
+
+        while (!expected.isEmpty()) {
+            int index = rand.nextInt(expected.size());
+            assertEquals(myList.remove(index), expected.remove(index));
+        }
+        assertTrue(myList.isEmpty());
+        myList.add(1);
+        myList.add(0, 0);
+        assertArrayEquals(myList.toArray(), new Object[] {0, 1});
+    }
+
+    /**
+     * Test method for editing through the list iterator.
+     * {@link list.IndexedLinkedList#listIterator(int)}.
+     */
+    @Test
+    public void testListIterator() {
+        myList.addAll(Arrays.asList(0, 1, 2, 3, 4));
+        ListIterator<Integer> it = myList.listIterator(2);
+        assertEquals(it.next(), Integer.valueOf(2));
+        it.remove();
+        it.add(20);
+        it.add(21);
+        assertEquals(it.previous(), Integer.valueOf(21));
+        it.set(22);
+        assertEquals(it.previous(), Integer.valueOf(20));
+        it.remove();
+        assertEquals(it.next(), Integer.valueOf(22));
+        assertEquals(myList.toString(), "[0, 1, 22, 3, 4]");
+        assertEquals(it.nextIndex(), 3);
+
+        myList.subList(1, 4).clear();
+        assertEquals(myList.toString(), "[0, 4]");
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        myList.add(7);
+        assertEquals(myList.get(0), Integer.valueOf(7));
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.IndexedLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(Arrays.asList(0, 1, 2));
+        Iterator<Integer> it = myList.iterator();
+        it.next();
+        myList.add(1, 5);
+        it.next();
+    }
+
+    /**
+     * Test method for an index past the end.
+     * {@link list.IndexedLinkedList#get(int)}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        myList.add(1);
+        myList.get(1);
+    }
+
+    /**
+     * Test method for the last element of an empty list.
+     * {@link list.IndexedLinkedList#getLast()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testGetLastEmpty() {
+        myList.getLast();
+    }
+}
@@ -0,0 +1,169 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import list.IntLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class IntLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class IntLinkedListTest {
+
+    private IntLinkedList myList;
+    final int[] values = { 4, 8, 15, 16, 23, 42, 7 };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new IntLinkedList(2);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding values past the initial capacity.
+     * {@link list.IntLinkedList#add(int)}.
+     */
+    @Test
+    public void testAdd() {
+        for (int value : values) {
+            assertTrue(myList.add(value));
+        }
+        assertEquals(myList.size(), values.length);
+        assertArrayEquals(myList.toArray(), values);
+    }
+
+    /**
+     * Test method for finding and removing values.
+     * {@link list.IntLinkedList#remove(int)}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        myList.addAll(values);
+        assertTrue(myList.contains(values[2]));
+        assertTrue(myList.remove(values[0]));
+        assertTrue(myList.remove(values[values.length - 1]));
+        assertFalse(myList.contains(values[0]));
+        assertFalse(myList.remove(99));
+        assertEquals(myList.size(), values.length - 2);
+
+        myList.add(values[0]);
+        assertTrue(myList.contains(values[0]));
+        assertEquals(myList.size(), values.length - 1);
+
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        assertFalse(myList.contains(values[2]));
+    }
+
+    /**
+     * Test method for iterating and removing through the iterator.
+     * {@link list.IntLinkedList#iterator()}.
+     */
+    @Test
+    public void testIterator() {
+        myList.addAll(values);
+        PrimitiveIterator.OfInt it = myList.iterator();
+        int index = 0;
+        while (it.hasNext()) {
+            assertEquals(it.nextInt(), values[index]);
+            if (index % 2 == 0) {
+                it.remove();
+            }
+            index++;
+        }
+        assertEquals(index, values.length);
+        assertEquals(myList.size(), values.length / 2);
+        assertEquals(myList.stream().count(), values.length / 2);
+    }
+
+    /**
+     * Test method for streaming the values.
+     * {@link list.IntLinkedList#stream()}.
+     */
+    @Test
+    public void testStream() {
+        myList.addAll(values);
+        assertArrayEquals(myList.stream().toArray(), values);
+    }
+
+    /**
+     * Test method for iterating past the end.
+     * {@link list.IntLinkedList#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorEmptyList() {
+        myList.iterator().nextInt();
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.IntLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(values);
+        PrimitiveIterator.OfInt it = myList.iterator();
+        it.nextInt();
+        myList.remove(values[3]);
+        it.nextInt();
+    }
+
+    /**
+     * Test method for adding and iterating without allocating per value.
+     * {@link list.IntLinkedList#add(int)}.
+     */
+    @Test
+    public void testAddAndIterateDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        long threadId = Thread.currentThread().getId();
+        int count = 100000;
+        IntLinkedList list = new IntLinkedList(count);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            list.add(i + 1000);
+        }
+        long sum = 0;
+        PrimitiveIterator.OfInt it = list.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(sum, (long) count * (count - 1) / 2 + 1000L * count);
+        assertTrue("allocated " + allocated + " bytes", allocated < count);
+    }
+}
@@ -0,0 +1,191 @@
+package list.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import list.LinkedList;
+import list.io.ElementCodecs;
+import list.io.LinkedListSerializer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class LinkedListSerializer with the codecs in ElementCodecs.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class LinkedListSerializerTest {
+
+    private LinkedList<String> myList;
+    private LinkedListSerializer<String> serializer;
+    final String[] values = { "hello", "", "kale", "café", "水", "🐟", "fish" };
+
+    /**
+     * setup a list of strings and a UTF-8 serializer.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new LinkedList<String>();
+        myList.addAll(Arrays.asList(values));
+        myList.add(null);
+        serializer = new LinkedListSerializer<String>(ElementCodecs.UTF8);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for streaming strings out and back in.
+     * {@link list.io.LinkedListSerializer#read(java.nio.channels.ReadableByteChannel)}.
+     */
+    @Test
+    public void testStreamRoundTrip() throws IOException {
+        byte[] bytes = write(serializer, myList);
+        LinkedList<String> copy = serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        assertEquals(copy, myList);
+        assertEquals(serializer.read(ByteBuffer.wrap(bytes)), myList);
+    }
+
+    /**
+     * Test method for strings longer than the write buffer.
+     * {@link list.io.LinkedListSerializer#write(java.util.Collection, java.nio.channels.WritableByteChannel)}.
+     */
+    @Test
+    public void testLongElements() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            builder.append((char) ('a' + i % 26)).append('é');
+        }
+        myList.add(builder.toString());
+        myList.add("tail");
+
+        byte[] bytes = write(serializer, myList);
+        assertEquals(serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes))), myList);
+        assertEquals(serializer.read(ByteBuffer.wrap(bytes)), myList);
+    }
+
+    /**
+     * Test method for saving to a file and loading it through a memory map.
+     * {@link list.io.LinkedListSerializer#load(java.nio.file.Path)}.
+     */
+    @Test
+    public void testSaveAndLoadMapped() throws IOException {
+        LinkedListSerializer<Integer> ints = new LinkedListSerializer<Integer>(ElementCodecs.INT);
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        Random rand = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            numbers.add(rand.nextInt());
+        }
+
+        Path file = Files.createTempFile("list", ".lls");
+        try {
+            assertEquals(ints.save(numbers, file), 16 + 4L * numbers.size());
+            assertEquals(Files.size(file), 16 + 4L * numbers.size());
+            assertEquals(ints.load(file), numbers);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test method for the long and double codecs.
+     * {@link list.io.ElementCodecs#LONG}.
+     */
+    @Test
+    public void testLongAndDoubleCodecs() throws IOException {
+        LinkedList<Long> longs = new LinkedList<Long>();
+        longs.addAll(new Long[] {Long.MIN_VALUE, 0L, Long.MAX_VALUE});
+        LinkedListSerializer<Long> longSerializer = new LinkedListSerializer<Long>(ElementCodecs.LONG);
+        assertEquals(longSerializer.read(ByteBuffer.wrap(write(longSerializer, longs))), longs);
+
+        LinkedList<Double> doubles = new LinkedList<Double>();
+        doubles.addAll(new Double[] {-0.5, Double.NaN, Double.MAX_VALUE});
+        LinkedListSerializer<Double> doubleSerializer = new LinkedListSerializer<Double>(ElementCodecs.DOUBLE);
+        assertEquals(doubleSerializer.read(ByteBuffer.wrap(write(doubleSerializer, doubles))), doubles);
+    }
+
+    /**
+     * Test method for encoding and decoding at an offset without moving the position.
+     * {@link list.io.ElementCodec#decodeAt(java.nio.ByteBuffer, int, int)}.
+     */
+    @Test
+    public void testCodecsAtOffset() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ElementCodecs.INT.encodeAt(-7, buffer, 4);
+        ElementCodecs.LONG.encodeAt(Long.MAX_VALUE, buffer, 8);
+        ElementCodecs.DOUBLE.encodeAt(-0.5, buffer, 16);
+        ElementCodecs.UTF8.encodeAt("h\u00e9llo", buffer, 24);
+        assertEquals(buffer.position(), 0);
+
+        assertEquals(ElementCodecs.INT.decodeAt(buffer, 4, 4), Integer.valueOf(-7));
+        assertEquals(ElementCodecs.LONG.decodeAt(buffer, 8, 8), Long.valueOf(Long.MAX_VALUE));
+        assertEquals(ElementCodecs.DOUBLE.decodeAt(buffer, 16, 8), Double.valueOf(-0.5));
+        assertEquals(ElementCodecs.UTF8.decodeAt(buffer, 24, 6), "h\u00e9llo");
+        assertEquals(buffer.position(), 0);
+    }
+
+    /**
+     * Test method for a fixed width codec refusing null.
+     * {@link list.io.LinkedListSerializer#write(java.util.Collection, java.nio.channels.WritableByteChannel)}.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFixedWidthNull() throws IOException {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        numbers.add(1);
+        numbers.add(null);
+        write(new LinkedListSerializer<Integer>(ElementCodecs.INT), numbers);
+    }
+
+    /**
+     * Test method for reading a snapshot with a different codec.
+     * {@link list.io.LinkedListSerializer#read(java.nio.ByteBuffer)}.
+     */
+    @Test(expected = StreamCorruptedException.class)
+    public void testWrongCodec() throws IOException {
+        byte[] bytes = write(serializer, myList);
+        new LinkedListSerializer<Integer>(ElementCodecs.INT).read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Test method for reading a truncated snapshot.
+     * {@link list.io.LinkedListSerializer#read(java.nio.channels.ReadableByteChannel)}.
+     */
+    @Test(expected = EOFException.class)
+    public void testTruncated() throws IOException {
+        byte[] bytes = write(serializer, myList);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        serializer.read(Channels.newChannel(new ByteArrayInputStream(truncated)));
+    }
+
+    private static <E> byte[] write(LinkedListSerializer<E> serializer, LinkedList<E> list) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = serializer.write(list, Channels.newChannel(out));
+        assertEquals(written, out.size());
+        return out.toByteArray();
+    }
+}
@@ -1,23 +1,44 @@
 package list.test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 import list.LinkedList;
+import list.PersistentLinkedList;
+import list.metrics.ListMetrics;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.sun.management.ThreadMXBean;
+
 
 
 
@@ -238,6 +259,12 @@ public class LinkedListTest {
         
         assertTrue(myLinkedList.contains("kale"));
         assertFalse(myLinkedList.contains("apples"));
+        assertFalse(myLinkedList.contains(null));
+        
+        myLinkedList.addFirst(null);
+        assertTrue(myLinkedList.contains("kale"));
+        assertTrue(myLinkedList.contains(null));
+        assertEquals(myLinkedList.indexOf("kale"), 3);
     }
 
     /**
@@ -292,7 +319,7 @@ public class LinkedListTest {
      * Test method for iterating an empty list.
      * {@link ca.bcit.comp2526.a3.LinkedList#iterator()}.
      */
-    @Test(expected = NullPointerException.class)
+    @Test(expected = NoSuchElementException.class)
     public void testIteratorEmptyList() {   
         ListIterator<String> iterator = myLinkedList.iterator();
         assertFalse(iterator.hasNext());
@@ -399,4 +426,914 @@ public class LinkedListTest {
         
         assertEquals(myLinkedList.size(), size);
     }
+    
+    /**
+     * Test method for keeping the size in step with every mutation.
+     * {@link list.LinkedList#size()}.
+     */
+    @Test
+    public void testSizeTracksMutations() {
+        System.setProperty(LinkedList.VERIFY_SIZE_PROPERTY, "true");
+        try {
+            LinkedList<String> verified = new LinkedList<String>();
+            for (String value : test2) {
+                verified.add(value);
+            }
+            assertEquals(verified.size(), test2.length);
+            
+            verified.remove("garage");
+            verified.removeAll(Arrays.asList("apple"));
+            assertEquals(verified.size(), 2);
+            
+            verified.retainAll(Arrays.asList("car"));
+            assertEquals(verified.size(), 1);
+            
+            verified.remove("car");
+            assertTrue(verified.isEmpty());
+            assertEquals(verified.size(), 0);
+            
+            verified.addAll(Arrays.asList(values));
+            verified.clear();
+            assertEquals(verified.size(), 0);
+        } finally {
+            System.clearProperty(LinkedList.VERIFY_SIZE_PROPERTY);
+        }
+    }
+    
+    /**
+     * Test method for removing the only element in the list.
+     * {@link list.LinkedList#remove(java.lang.Object)}.
+     */
+    @Test
+    public void testRemoveOnlyElement() {
+        myLinkedList.add("apple");
+        assertTrue(myLinkedList.remove("apple"));
+        assertTrue(myLinkedList.isEmpty());
+        assertEquals(myLinkedList.size(), 0);
+        
+        myLinkedList.add("fish");
+        assertEquals(myLinkedList.getHead(), myLinkedList.getTail());
+        assertEquals(myLinkedList.size(), 1);
+    }
+    
+    /**
+     * Test method for removing every duplicate with a large collection.
+     * {@link list.LinkedList#removeAll(java.util.Collection)}.
+     */
+    @Test
+    public void testRemoveAllLargeCollection() {
+        List<String> removeItems = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            myLinkedList.add("" + (i % 10));
+            removeItems.add("" + (i % 5 + 100));
+        }
+        removeItems.add("3");
+        removeItems.add("7");
+        
+        assertTrue(myLinkedList.removeAll(removeItems));
+        assertEquals(myLinkedList.size(), 80);
+        assertFalse(myLinkedList.contains("3"));
+        assertFalse(myLinkedList.contains("7"));
+        assertFalse(myLinkedList.removeAll(removeItems));
+        
+        assertTrue(myLinkedList.retainAll(Arrays.asList("1", "9")));
+        assertEquals(myLinkedList.size(), 20);
+        assertEquals(myLinkedList.getHeadElement(), "1");
+        assertEquals(myLinkedList.getTailElement(), "9");
+    }
+    
+    /**
+     * Test method for removing elements which match a predicate.
+     * {@link list.LinkedList#removeIf(java.util.function.Predicate)}.
+     */
+    @Test
+    public void testRemoveIf() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        assertTrue(myLinkedList.removeIf(value -> value.length() == 4));
+        assertEquals(myLinkedList.size(), 3);
+        assertEquals(myLinkedList.getHeadElement(), "hello");
+        assertEquals(myLinkedList.getTailElement(), "apple");
+        assertFalse(myLinkedList.removeIf(value -> value.isEmpty()));
+        
+        assertTrue(myLinkedList.removeIf(value -> true));
+        assertTrue(myLinkedList.isEmpty());
+    }
+    
+    /**
+     * Test method for positional access from both ends of the list.
+     * {@link list.LinkedList#get(int)}.
+     */
+    @Test
+    public void testGetAndSet() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        for (int i = 0; i < values.length; i++) {
+            assertSame(myLinkedList.get(i), values[i]);
+        }
+        
+        assertEquals(myLinkedList.set(4, "pear"), "apple");
+        assertEquals(myLinkedList.get(4), "pear");
+        assertEquals(myLinkedList.size(), values.length);
+    }
+    
+    /**
+     * Test method for reading past the end of the list.
+     * {@link list.LinkedList#get(int)}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        myLinkedList.add("apple");
+        myLinkedList.get(1);
+    }
+    
+    /**
+     * Test method for inserting and removing by index.
+     * {@link list.LinkedList#add(int, java.lang.Object)}.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        myLinkedList.add(0, "kale");
+        myLinkedList.add(0, "hello");
+        myLinkedList.add(2, "fish");
+        myLinkedList.add(1, "test");
+        myLinkedList.addAll(3, Arrays.asList("nomad", "apple"));
+        assertEquals(myLinkedList, Arrays.asList(values));
+        
+        assertEquals(myLinkedList.remove(0), "hello");
+        assertEquals(myLinkedList.remove(4), "fish");
+        assertEquals(myLinkedList.remove(1), "kale");
+        assertEquals(myLinkedList, Arrays.asList("test", "nomad", "apple"));
+        assertEquals(myLinkedList.getHeadElement(), "test");
+        assertEquals(myLinkedList.getTailElement(), "apple");
+    }
+    
+    /**
+     * Test method for inserting the list into itself.
+     * {@link list.LinkedList#addAll(int, java.util.Collection)}.
+     */
+    @Test
+    public void testAddAllAtIndexSelf() {
+        myLinkedList.addAll(Arrays.asList("apple", "fish"));
+        assertTrue(myLinkedList.addAll(0, myLinkedList));
+        assertEquals(myLinkedList, Arrays.asList("apple", "fish", "apple", "fish"));
+        assertTrue(myLinkedList.addAll(1, myLinkedList));
+        assertEquals(myLinkedList, Arrays.asList("apple", "apple", "fish", "apple", "fish",
+                "fish", "apple", "fish"));
+        assertFalse(myLinkedList.addAll(1, new ArrayList<String>()));
+        assertEquals(myLinkedList.size(), 8);
+    }
+    
+    /**
+     * Test method for searching from the head and from the tail.
+     * {@link list.LinkedList#indexOf(java.lang.Object)}.
+     */
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        for (String value : test2) {
+            myLinkedList.add(value);
+        }
+        
+        assertEquals(myLinkedList.indexOf("apple"), 0);
+        assertEquals(myLinkedList.lastIndexOf("apple"), 4);
+        assertEquals(myLinkedList.indexOf("garage"), 3);
+        assertEquals(myLinkedList.indexOf("kale"), -1);
+        assertEquals(myLinkedList.lastIndexOf("kale"), -1);
+    }
+    
+    /**
+     * Test method for a list iterator starting in the middle of the list.
+     * {@link list.LinkedList#listIterator(int)}.
+     */
+    @Test
+    public void testListIteratorAtIndex() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        ListIterator<String> it = myLinkedList.listIterator(3);
+        assertEquals(it.nextIndex(), 3);
+        assertEquals(it.next(), "nomad");
+        assertEquals(it.previous(), "nomad");
+        assertEquals(it.previous(), "kale");
+        assertEquals(it.previousIndex(), 1);
+        
+        it = myLinkedList.listIterator(values.length);
+        assertFalse(it.hasNext());
+        assertEquals(it.previous(), "fish");
+    }
+    
+    /**
+     * Test method for a view over part of the list.
+     * {@link list.LinkedList#subList(int, int)}.
+     */
+    @Test
+    public void testSubList() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        List<String> view = myLinkedList.subList(1, 4);
+        assertEquals(view, Arrays.asList("test", "kale", "nomad"));
+        
+        view.set(0, "tests");
+        assertEquals(myLinkedList.get(1), "tests");
+        
+        view.add(3, "car");
+        assertEquals(myLinkedList.get(4), "car");
+        assertEquals(myLinkedList.size(), values.length + 1);
+        
+        assertEquals(view.remove(1), "kale");
+        assertEquals(view.size(), 3);
+        
+        view.clear();
+        assertTrue(view.isEmpty());
+        assertEquals(myLinkedList, Arrays.asList("hello", "apple", "fish"));
+    }
+    
+    /**
+     * Test method for list equality and hash code.
+     * {@link list.LinkedList#equals(java.lang.Object)}.
+     */
+    @Test
+    public void testEqualsAndHashCode() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        List<String> expected = new ArrayList<String>(Arrays.asList(values));
+        assertEquals(myLinkedList, expected);
+        assertEquals(myLinkedList.hashCode(), expected.hashCode());
+        assertEquals(myLinkedList.toString(), expected.toString());
+        
+        expected.remove(5);
+        assertFalse(myLinkedList.equals(expected));
+    }
+    
+    /**
+     * Test method for using the list as a queue with duplicate elements.
+     * {@link list.LinkedList#pollFirst()}.
+     */
+    @Test
+    public void testQueueOperations() {
+        for (String value : test2) {
+            assertTrue(myLinkedList.offer(value));
+        }
+        
+        assertEquals(myLinkedList.peek(), "apple");
+        assertEquals(myLinkedList.poll(), "apple");
+        assertEquals(myLinkedList.pollLast(), "apple");
+        assertEquals(myLinkedList.peekLast(), "garage");
+        assertEquals(myLinkedList, Arrays.asList("fish", "car", "garage"));
+        
+        assertEquals(myLinkedList.remove(), "fish");
+        assertEquals(myLinkedList.removeLast(), "garage");
+        assertEquals(myLinkedList.pollFirst(), "car");
+        assertTrue(myLinkedList.isEmpty());
+        assertEquals(myLinkedList.size(), 0);
+        assertEquals(myLinkedList.poll(), null);
+        assertEquals(myLinkedList.pollLast(), null);
+        assertEquals(myLinkedList.peekFirst(), null);
+    }
+    
+    /**
+     * Test method for using the list as a stack.
+     * {@link list.LinkedList#push(java.lang.Object)}.
+     */
+    @Test
+    public void testStackOperations() {
+        for (String value : values) {
+            myLinkedList.push(value);
+        }
+        
+        assertEquals(myLinkedList.getFirst(), "fish");
+        assertEquals(myLinkedList.getLast(), "hello");
+        for (int i = values.length - 1; i >= 0; i--) {
+            assertSame(myLinkedList.pop(), values[i]);
+        }
+        assertTrue(myLinkedList.isEmpty());
+    }
+    
+    /**
+     * Test method for removing the head of an empty list.
+     * {@link list.LinkedList#removeFirst()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFirstEmptyList() {
+        myLinkedList.removeFirst();
+    }
+    
+    /**
+     * Test method for reading the head of an empty list.
+     * {@link list.LinkedList#getHeadElement()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testGetHeadElementEmptyList() {
+        myLinkedList.getHeadElement();
+    }
+    
+    /**
+     * Test method for removing the last occurrence of an element.
+     * {@link list.LinkedList#removeLastOccurrence(java.lang.Object)}.
+     */
+    @Test
+    public void testRemoveLastOccurrence() {
+        for (String value : test2) {
+            myLinkedList.add(value);
+        }
+        
+        assertTrue(myLinkedList.removeLastOccurrence("apple"));
+        assertFalse(myLinkedList.removeLastOccurrence("kale"));
+        assertEquals(myLinkedList, Arrays.asList("apple", "fish", "car", "garage"));
+        assertEquals(myLinkedList.getTailElement(), "garage");
+    }
+    
+    /**
+     * Test method for removing the first occurrence past a null element.
+     * {@link list.LinkedList#removeFirstOccurrence(java.lang.Object)}.
+     */
+    @Test
+    public void testRemoveFirstOccurrenceAfterNull() {
+        myLinkedList.add(null);
+        myLinkedList.add("apple");
+        myLinkedList.add(null);
+        myLinkedList.add("apple");
+        
+        assertTrue(myLinkedList.removeFirstOccurrence("apple"));
+        assertFalse(myLinkedList.removeFirstOccurrence("kale"));
+        assertEquals(myLinkedList, Arrays.asList(null, null, "apple"));
+        assertTrue(myLinkedList.remove(null));
+        assertEquals(myLinkedList, Arrays.asList(null, "apple"));
+    }
+    
+    /**
+     * Test method for iterating from the tail to the head.
+     * {@link list.LinkedList#descendingIterator()}.
+     */
+    @Test
+    public void testDescendingIterator() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        Iterator<String> it = myLinkedList.descendingIterator();
+        for (int i = values.length - 1; i >= 0; i--) {
+            assertTrue(it.hasNext());
+            assertSame(it.next(), values[i]);
+        }
+        assertFalse(it.hasNext());
+    }
+    
+    /**
+     * Test method for add and remove churn reusing pooled nodes.
+     * {@link list.LinkedList#setNodePoolCapacity(int)}.
+     */
+    @Test
+    public void testNodePoolChurnDoesNotAllocate() {
+        Object bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof ThreadMXBean)) {
+            return;
+        }
+        ThreadMXBean threads = (ThreadMXBean) bean;
+        long threadId = Thread.currentThread().getId();
+        myLinkedList.setNodePoolCapacity(64);
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        for (int i = 0; i < 64; i++) {
+            myLinkedList.addFirst("warm");
+        }
+        for (int i = 0; i < 64; i++) {
+            myLinkedList.removeFirst();
+        }
+        
+        int cycles = 100000;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < cycles; i++) {
+            myLinkedList.add("churn");
+            myLinkedList.addFirst("churn");
+            myLinkedList.removeLast();
+            myLinkedList.pollFirst();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        
+        assertEquals(myLinkedList, Arrays.asList(values));
+        assertTrue("allocated " + allocated + " bytes", allocated < cycles);
+    }
+    
+    /**
+     * Test method for removed nodes going to the pool and back into the list.
+     * {@link list.LinkedList#setNodePoolCapacity(int)}.
+     */
+    @Test
+    public void testNodePoolReusesNodes() {
+        ListMetrics metrics = new ListMetrics();
+        myLinkedList.setMetrics(metrics);
+        myLinkedList.setNodePoolCapacity(8);
+        myLinkedList.add("garbage");
+        myLinkedList.add("kept");
+        myLinkedList.remove("garbage");
+        assertEquals(myLinkedList, Arrays.asList("kept"));
+        
+        myLinkedList.clear();
+        myLinkedList.add("reused");
+        myLinkedList.add("again");
+        myLinkedList.add("new");
+        assertEquals(myLinkedList, Arrays.asList("reused", "again", "new"));
+        assertEquals(metrics.getNodesReused(), 2);
+        assertEquals(metrics.getNodesAllocated(), 3);
+        
+        myLinkedList.setNodePoolCapacity(0);
+        assertEquals(myLinkedList.getNodePoolCapacity(), 0);
+    }
+    
+    /**
+     * Test method for removing elements through the iterator.
+     * {@link list.LinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorRemove() {
+        for (String value : test2) {
+            myLinkedList.add(value);
+        }
+        
+        ListIterator<String> it = myLinkedList.iterator();
+        while (it.hasNext()) {
+            if (it.next().equals("apple")) {
+                it.remove();
+            }
+        }
+        assertEquals(myLinkedList, Arrays.asList("fish", "car", "garage"));
+        
+        assertEquals(it.previous(), "garage");
+        it.remove();
+        assertEquals(it.previous(), "car");
+        assertEquals(it.nextIndex(), 1);
+        assertEquals(myLinkedList, Arrays.asList("fish", "car"));
+        assertEquals(myLinkedList.getTailElement(), "car");
+    }
+    
+    /**
+     * Test method for replacing and inserting elements through the iterator.
+     * {@link list.LinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorSetAndAdd() {
+        for (String value : test1) {
+            myLinkedList.add(value);
+        }
+        
+        ListIterator<String> it = myLinkedList.iterator();
+        it.add("hello");
+        assertEquals(it.next(), "test");
+        it.set("tests");
+        it.add("kale");
+        assertEquals(it.next(), "nomad");
+        it.add("apple");
+        assertEquals(it.next(), "fish");
+        it.add("car");
+        assertFalse(it.hasNext());
+        assertEquals(it.nextIndex(), 7);
+        assertEquals(myLinkedList, Arrays.asList("hello", "tests", "kale", "nomad", "apple", "fish", "car"));
+        assertEquals(myLinkedList.getTailElement(), "car");
+    }
+    
+    /**
+     * Test method for removing twice without moving the iterator.
+     * {@link list.LinkedList#iterator()}.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveTwice() {
+        myLinkedList.add("apple");
+        ListIterator<String> it = myLinkedList.iterator();
+        it.next();
+        it.remove();
+        it.remove();
+    }
+    
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.LinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        for (String value : myLinkedList) {
+            if (value.equals("kale")) {
+                myLinkedList.remove(value);
+            }
+        }
+    }
+    
+    /**
+     * Test method for using a view after the list changed.
+     * {@link list.LinkedList#subList(int, int)}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailFast() {
+        for (String value : values) {
+            myLinkedList.add(value);
+        }
+        
+        List<String> view = myLinkedList.subList(1, 3);
+        myLinkedList.add("car");
+        view.size();
+    }
+    
+    /**
+     * Test method for walking back over a size-one list.
+     * {@link list.LinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorPreviousListSizeOne() {
+        myLinkedList.add("Paul");
+        ListIterator<String> it = myLinkedList.iterator();
+        assertEquals(it.next(), "Paul");
+        assertTrue(it.hasPrevious());
+        assertEquals(it.previous(), "Paul");
+        assertFalse(it.hasPrevious());
+    }
+    
+    /**
+     * Test method for splitting the list into sized batches.
+     * {@link list.LinkedList#spliterator()}.
+     */
+    @Test
+    public void testSpliterator() {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            numbers.add(i);
+        }
+        
+        Spliterator<Integer> spliterator = numbers.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(spliterator.getExactSizeIfKnown(), 5000);
+        
+        Spliterator<Integer> first = spliterator.trySplit();
+        assertEquals(first.estimateSize(), 1024);
+        assertTrue(first.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(spliterator.estimateSize(), 5000 - 1024);
+        Spliterator<Integer> second = spliterator.trySplit();
+        assertEquals(second.estimateSize(), 2048);
+        
+        List<Integer> seen = new ArrayList<Integer>();
+        first.forEachRemaining(seen::add);
+        second.forEachRemaining(seen::add);
+        assertTrue(spliterator.tryAdvance(seen::add));
+        spliterator.forEachRemaining(seen::add);
+        assertEquals(seen, numbers);
+    }
+    
+    /**
+     * Test method for a parallel stream over the list.
+     * {@link list.LinkedList#spliterator()}.
+     */
+    @Test
+    public void testParallelStream() {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            numbers.add(i);
+        }
+        numbers.add(null);
+        
+        long sum = numbers.parallelStream().filter(Objects::nonNull).mapToLong(i -> i * 2L).sum();
+        assertEquals(sum, 99999L * 100000L);
+        assertEquals(numbers.parallelStream().count(), 100001);
+        assertEquals(numbers.parallelStream().filter(Objects::nonNull).map(i -> i + 1)
+                .collect(Collectors.toList()).get(99999), Integer.valueOf(100000));
+    }
+    
+    /**
+     * Test method for appending a chain built from random access, iterated and array sources.
+     * {@link list.LinkedList#addAll(java.util.Collection)}.
+     */
+    @Test
+    public void testAddAllFastPaths() {
+        assertFalse(myLinkedList.addAll(new ArrayList<String>()));
+        assertFalse(myLinkedList.addAll(new String[0]));
+        assertTrue(myLinkedList.addAll(Arrays.asList(values)));
+        assertTrue(myLinkedList.addAll(new LinkedHashSet<String>(Arrays.asList(test2))));
+        assertTrue(myLinkedList.addAll(new String[] {"car"}));
+        assertTrue(myLinkedList.addAll(myLinkedList));
+        
+        List<String> expected = new ArrayList<String>(Arrays.asList(values));
+        expected.addAll(new LinkedHashSet<String>(Arrays.asList(test2)));
+        expected.add("car");
+        expected.addAll(new ArrayList<String>(expected));
+        assertEquals(myLinkedList, expected);
+        assertEquals(myLinkedList.getTailElement(), "car");
+        assertEquals(myLinkedList.lastIndexOf("hello"), expected.size() / 2);
+        
+        ListIterator<String> it = myLinkedList.listIterator(myLinkedList.size());
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals(it.previous(), expected.get(i));
+        }
+    }
+    
+    /**
+     * Test method for moving the nodes of another list in constant time.
+     * {@link list.LinkedList#splice(list.LinkedList)}.
+     */
+    @Test
+    public void testSplice() {
+        LinkedList<String> other = new LinkedList<String>();
+        assertFalse(myLinkedList.splice(other));
+        other.addAll(Arrays.asList(test2));
+        assertTrue(myLinkedList.splice(other));
+        assertTrue(other.isEmpty());
+        assertEquals(myLinkedList, Arrays.asList(test2));
+        
+        other.addAll(Arrays.asList(values));
+        myLinkedList.splice(other);
+        other.add("car");
+        assertEquals(myLinkedList.size(), test2.length + values.length);
+        assertEquals(myLinkedList.get(test2.length), "hello");
+        assertEquals(myLinkedList.getTailElement(), "fish");
+        assertEquals(myLinkedList.removeLast(), "fish");
+        assertEquals(other, Arrays.asList("car"));
+    }
+    
+    /**
+     * Test method for splicing a list onto itself.
+     * {@link list.LinkedList#splice(list.LinkedList)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpliceSelf() {
+        myLinkedList.add("car");
+        myLinkedList.splice(myLinkedList);
+    }
+    
+    /**
+     * Test method for an iterator failing fast after its list was spliced away.
+     * {@link list.LinkedList#splice(list.LinkedList)}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSpliceFailsIteratorOfSource() {
+        LinkedList<String> other = new LinkedList<String>();
+        other.addAll(Arrays.asList(values));
+        Iterator<String> it = other.iterator();
+        it.next();
+        myLinkedList.splice(other);
+        it.next();
+    }
+    
+    /**
+     * Test method for a Java serialization round trip keeping order, nulls and settings.
+     * {@link list.LinkedList}.
+     */
+    @Test
+    public void testJavaSerialization() throws Exception {
+        myLinkedList.addAll(Arrays.asList(test2));
+        myLinkedList.add(null);
+        myLinkedList.setNodePoolCapacity(8);
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(myLinkedList);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            LinkedList<String> copy = (LinkedList<String>) in.readObject();
+            assertEquals(copy, myLinkedList);
+            assertEquals(copy.getNodePoolCapacity(), 8);
+            assertEquals(copy.getTailElement(), null);
+            copy.removeFirst();
+            assertEquals(copy.size(), test2.length);
+        }
+    }
+    
+    /**
+     * Test method for a snapshot sharing the nodes until the list changes them.
+     * {@link list.LinkedList#snapshot()}.
+     */
+    @Test
+    public void testSnapshot() {
+        assertTrue(myLinkedList.snapshot().isEmpty());
+        myLinkedList.addAll(Arrays.asList(values));
+        myLinkedList.setNodePoolCapacity(16);
+        PersistentLinkedList<String> snapshot = myLinkedList.snapshot();
+        
+        myLinkedList.add("car");
+        myLinkedList.addFirst("boat");
+        myLinkedList.removeFirst();
+        myLinkedList.removeFirst();
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+        
+        myLinkedList.set(0, "bike");
+        myLinkedList.removeLast();
+        myLinkedList.remove("kale");
+        assertEquals(myLinkedList.toString(), "[bike, nomad, apple, fish]");
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+        assertEquals(snapshot.toLinkedList(), Arrays.asList(values));
+    }
+    
+    /**
+     * Test method for an iterator editing a list whose chain a snapshot shares.
+     * {@link list.LinkedList#snapshot()}.
+     */
+    @Test
+    public void testSnapshotIteratorEdits() {
+        myLinkedList.addAll(Arrays.asList(values));
+        PersistentLinkedList<String> snapshot = myLinkedList.snapshot();
+        ListIterator<String> it = myLinkedList.listIterator();
+        it.next();
+        it.next();
+        it.set("best");
+        it.previous();
+        it.remove();
+        it.add("toast");
+        assertEquals(it.next(), "kale");
+        
+        PersistentLinkedList<String> second = myLinkedList.snapshot();
+        it = myLinkedList.listIterator(3);
+        it.add("bread");
+        myLinkedList.subList(4, 6).clear();
+        myLinkedList.subList(0, 2).set(1, "roast");
+        assertEquals(myLinkedList.toString(), "[hello, roast, kale, bread, fish]");
+        assertEquals(second.toString(), "[hello, toast, kale, nomad, apple, fish]");
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+    }
+    
+    /**
+     * Test method for visiting and copying a list large enough to be split.
+     * {@link list.LinkedList#parallelForEach(java.util.function.Consumer)}.
+     */
+    @Test
+    public void testParallelForEachAndToArray() {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            numbers.add(i);
+        }
+        LongAdder sum = new LongAdder();
+        numbers.parallelForEach(sum::add);
+        assertEquals(sum.sum(), 99999L * 100000 / 2);
+        assertArrayEquals(numbers.parallelToArray(), numbers.toArray());
+        assertEquals(new LinkedList<Integer>().parallelToArray().length, 0);
+    }
+    
+    /**
+     * Test method for removing and replacing elements in parallel against ArrayList.
+     * {@link list.LinkedList#parallelRemoveIf(java.util.function.Predicate)}.
+     */
+    @Test
+    public void testParallelRemoveIfAndReplaceAll() {
+        Random rand = new Random(42);
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            int number = rand.nextInt(1000);
+            numbers.add(number);
+            expected.add(number);
+        }
+        PersistentLinkedList<Integer> snapshot = numbers.snapshot();
+        
+        assertTrue(numbers.parallelRemoveIf(n -> n % 3 == 0));
+        expected.removeIf(n -> n % 3 == 0);
+        assertFalse(numbers.parallelRemoveIf(n -> n % 3 == 0));
+        assertEquals(numbers, expected);
+        
+        numbers.parallelReplaceAll(n -> n * 2);
+        expected.replaceAll(n -> n * 2);
+        assertEquals(numbers, expected);
+        assertEquals(snapshot.size(), 100000);
+        assertTrue(snapshot.contains(999));
+    }
+    
+    /**
+     * Test method for the action changing the list.
+     * {@link list.LinkedList#parallelForEach(java.util.function.Consumer)}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testParallelForEachComodification() {
+        myLinkedList.addAll(Arrays.asList(values));
+        myLinkedList.parallelForEach(s -> myLinkedList.add(s));
+    }
+    
+    /**
+     * Test method for sorting random lists against java.util sorting, keeping equal keys in order.
+     * {@link list.LinkedList#sort(java.util.Comparator)}.
+     */
+    @Test
+    public void testSort() {
+        Random rand = new Random(42);
+        for (int length : new int[] {0, 1, 2, 3, 10, 1000, 10000}) {
+            LinkedList<int[]> pairs = new LinkedList<int[]>();
+            for (int i = 0; i < length; i++) {
+                pairs.add(new int[] {rand.nextInt(50), i});
+            }
+            List<int[]> expected = new ArrayList<int[]>(pairs);
+            Comparator<int[]> byKey = Comparator.comparingInt(pair -> pair[0]);
+            expected.sort(byKey);
+            
+            pairs.sort(byKey);
+            assertEquals(pairs.size(), length);
+            Iterator<int[]> it = expected.iterator();
+            for (int[] pair : pairs) {
+                assertSame(pair, it.next());
+            }
+            
+            List<int[]> backward = new ArrayList<int[]>();
+            for (Iterator<int[]> descending = pairs.descendingIterator(); descending.hasNext();) {
+                backward.add(0, descending.next());
+            }
+            assertEquals(backward, expected);
+            if (length > 0) {
+                assertSame(pairs.getLast(), expected.get(length - 1));
+            }
+        }
+    }
+    
+    /**
+     * Test method for sorting sorted, reversed and natural ordered lists.
+     * {@link list.LinkedList#sort(java.util.Comparator)}.
+     */
+    @Test
+    public void testSortRuns() {
+        myLinkedList.addAll(Arrays.asList(values));
+        myLinkedList.sort(null);
+        assertEquals(myLinkedList.toString(), "[apple, fish, hello, kale, nomad, test]");
+        
+        int[] comparisons = new int[1];
+        Comparator<String> counting = (a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        };
+        myLinkedList.sort(counting);
+        assertEquals(comparisons[0], values.length - 1);
+        
+        myLinkedList.sort(Comparator.reverseOrder());
+        assertEquals(myLinkedList.toString(), "[test, nomad, kale, hello, fish, apple]");
+        myLinkedList.add("banana");
+        Iterator<String> descending = myLinkedList.descendingIterator();
+        descending.next();
+        assertEquals(descending.next(), "apple");
+    }
+    
+    /**
+     * Test method for a comparator failing halfway through a sort.
+     * {@link list.LinkedList#sort(java.util.Comparator)}.
+     */
+    @Test
+    public void testSortComparatorFails() {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add((i * 7919) % 1000);
+        }
+        int[] comparisons = new int[1];
+        try {
+            numbers.sort((a, b) -> {
+                if (++comparisons[0] == 1500) {
+                    throw new IllegalStateException("fails");
+                }
+                return a.compareTo(b);
+            });
+            fail("comparator exception not propagated");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "fails");
+        }
+        assertEquals(numbers.size(), 1000);
+        assertEquals(new HashSet<Integer>(numbers).size(), 1000);
+        assertEquals(numbers.descendingIterator().next(), numbers.getLast());
+        numbers.sort(null);
+        assertEquals(numbers.get(999), Integer.valueOf(999));
+    }
+    
+    /**
+     * Test method for sorting a chain shared with a snapshot.
+     * {@link list.LinkedList#sort(java.util.Comparator)}.
+     */
+    @Test
+    public void testSortKeepsSnapshot() {
+        myLinkedList.addAll(Arrays.asList(values));
+        PersistentLinkedList<String> snapshot = myLinkedList.snapshot();
+        myLinkedList.sort(null);
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+        
+        String[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(myLinkedList, Arrays.asList(sorted));
+    }
+    
+    /**
+     * Test method for sorting while an iterator is open.
+     * {@link list.LinkedList#sort(java.util.Comparator)}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSortFailsIterator() {
+        myLinkedList.addAll(Arrays.asList(values));
+        Iterator<String> it = myLinkedList.iterator();
+        it.next();
+        myLinkedList.sort(null);
+        it.next();
+    }
 }
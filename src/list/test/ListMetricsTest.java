@@ -0,0 +1,171 @@
+package list.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import list.LinkedList;
+import list.metrics.ListMetrics;
+import list.metrics.ListMetrics.Operation;
+import list.metrics.ListMetrics.OperationStats;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class ListMetrics recording the operations of a LinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class ListMetricsTest {
+
+    private LinkedList<Integer> myList;
+    private ListMetrics metrics;
+
+    /**
+     * setup new list of 100 ints which records into new metrics.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new LinkedList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            myList.add(i);
+        }
+        metrics = new ListMetrics();
+        myList.setMetrics(metrics);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        metrics.unregister();
+        myList = null;
+    }
+
+    /**
+     * Test method for counting calls and the nodes they walk past.
+     * {@link list.metrics.ListMetrics#record(list.metrics.ListMetrics.Operation, long, long)}.
+     */
+    @Test
+    public void testTraversal() {
+        assertTrue(myList.contains(10));
+        assertFalse(myList.contains(1000));
+        assertEquals(myList.get(90), Integer.valueOf(90));
+        assertEquals(myList.indexOf(5), 5);
+        assertEquals(myList.lastIndexOf(95), 95);
+
+        OperationStats contains = metrics.stats(Operation.CONTAINS);
+        assertEquals(contains.getCalls(), 2);
+        assertEquals(contains.getNodesTraversed(), 110);
+        assertEquals(contains.getMaxTraversal(), 100);
+        assertEquals(contains.getMeanTraversal(), 55.0, 0.0);
+        assertEquals(contains.getTraversalPercentile(0.5), 15);
+        assertEquals(contains.getTraversalPercentile(1.0), 127);
+        assertEquals(metrics.stats(Operation.GET).getNodesTraversed(), 9);
+        assertEquals(metrics.stats(Operation.INDEX_OF).getNodesTraversed(), 5);
+        assertEquals(metrics.stats(Operation.LAST_INDEX_OF).getNodesTraversed(), 4);
+
+        Map<Operation, OperationStats> snapshot = metrics.snapshot();
+        assertEquals(snapshot.keySet().toString(), "[GET, CONTAINS, INDEX_OF, LAST_INDEX_OF]");
+        assertTrue(snapshot.get(Operation.GET).getLatencyPercentile(0.99) >= 0);
+    }
+
+    /**
+     * Test method for counting nodes allocated, reused and unlinked.
+     * {@link list.metrics.ListMetrics#getNodesAllocated()}.
+     */
+    @Test
+    public void testNodeCounts() {
+        myList.setNodePoolCapacity(10);
+        myList.removeAll(Arrays.asList(1, 2, 3));
+        myList.add(200);
+        myList.add(0, 300);
+        myList.remove(Integer.valueOf(50));
+        myList.clear();
+
+        assertEquals(metrics.getNodesUnlinked(), 3 + 1 + 98);
+        assertEquals(metrics.getNodesReused(), 2);
+        assertEquals(metrics.getNodesAllocated(), 0);
+        myList.add(1);
+        myList.add(2);
+        assertEquals(metrics.getNodesReused(), 4);
+        assertEquals(metrics.getCallCounts().toString(),
+                "{ADD=3, ADD_AT=1, CLEAR=1, REMOVE_ALL=1, REMOVE_OBJECT=1}");
+        assertEquals(metrics.getNodesTraversed().get("REMOVE_ALL"), Long.valueOf(100));
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+        assertEquals(metrics.getNodesReused(), 0);
+    }
+
+    /**
+     * Test method for tracing the call sites of long walks.
+     * {@link list.metrics.ListMetrics#setTraceThreshold(long)}.
+     */
+    @Test
+    public void testLongCallSites() {
+        metrics.setTraceThreshold(50);
+        for (int i = 0; i < 100; i++) {
+            myList.contains(i);
+        }
+        Map<String, Long> sites = metrics.getLongCallSites();
+        assertEquals(sites.size(), 1);
+        String site = sites.keySet().iterator().next();
+        assertTrue(site, site.startsWith("CONTAINS at list.test.ListMetricsTest.testLongCallSites"));
+        assertEquals(sites.get(site), Long.valueOf(50));
+    }
+
+    /**
+     * Test method for turning recording off.
+     * {@link list.LinkedList#setMetrics(list.metrics.ListMetrics)}.
+     */
+    @Test
+    public void testRecordingOff() {
+        myList.setMetrics(null);
+        assertNull(myList.getMetrics());
+        myList.contains(50);
+        myList.add(5);
+        assertTrue(metrics.snapshot().isEmpty());
+        assertEquals(metrics.getNodesAllocated(), 0);
+    }
+
+    /**
+     * Test method for reading the metrics through JMX.
+     * {@link list.metrics.ListMetrics#register(java.lang.String)}.
+     */
+    @Test
+    public void testRegister() throws Exception {
+        myList.get(50);
+        ObjectName name = metrics.register("test list");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(name));
+
+        TabularData calls = (TabularData) server.getAttribute(name, "CallCounts");
+        assertEquals(calls.size(), 1);
+        assertEquals(server.getAttribute(name, "NodesAllocated"), Long.valueOf(0));
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertTrue(metrics.snapshot().isEmpty());
+
+        metrics.unregister();
+        assertFalse(server.isRegistered(name));
+    }
+}
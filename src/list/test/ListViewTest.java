@@ -0,0 +1,151 @@
+package list.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import list.LinkedList;
+import list.ListView;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class ListView over a LinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class ListViewTest {
+
+    private LinkedList<Integer> myList;
+
+    /**
+     * setup new list of the ints 0 to 99.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new LinkedList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            myList.add(i);
+        }
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for a chain of views against the same stream pipeline.
+     * {@link list.ListView#iterator()}.
+     */
+    @Test
+    public void testPipelineMatchesStream() {
+        ListView<String> view = myList.filtered(n -> n % 3 == 0).skipped(2).mapped(n -> "#" + n).limited(5);
+        List<String> expected = myList.stream().filter(n -> n % 3 == 0).skip(2).map(n -> "#" + n).limit(5)
+                .collect(Collectors.toList());
+        assertEquals(new ArrayList<String>(view), expected);
+        assertEquals(view.size(), 5);
+        assertEquals(view.toString(), "[#6, #9, #12, #15, #18]");
+        assertEquals(view.materialize(), expected);
+        assertTrue(view.contains("#9"));
+        assertFalse(view.contains("#21"));
+    }
+
+    /**
+     * Test method for the stages running once per element, and a limit ending the walk.
+     * {@link list.ListView#limited(long)}.
+     */
+    @Test
+    public void testFusedAndShortCircuit() {
+        int[] calls = new int[2];
+        ListView<Integer> view = myList.mapped(n -> {
+            calls[0]++;
+            return n * 2;
+        }).filtered(n -> {
+            calls[1]++;
+            return n % 4 == 0;
+        }).limited(3);
+
+        assertEquals(calls[0], 0);
+        assertEquals(view.materialize().toString(), "[0, 4, 8]");
+        assertEquals(calls[0], 5);
+        assertEquals(calls[1], 5);
+        assertTrue(myList.limited(0).isEmpty());
+        assertEquals(myList.skipped(98).toString(), "[98, 99]");
+        assertEquals(myList.skipped(200).size(), 0);
+        assertEquals(myList.mapped(n -> n + 1).size(), 100);
+    }
+
+    /**
+     * Test method for a view seeing later changes of its list.
+     * {@link list.LinkedList#filtered(java.util.function.Predicate)}.
+     */
+    @Test
+    public void testLateBinding() {
+        ListView<Integer> negatives = myList.filtered(n -> n < 0);
+        assertTrue(negatives.isEmpty());
+        myList.add(-1);
+        myList.addFirst(-2);
+        assertEquals(negatives.toString(), "[-2, -1]");
+    }
+
+    /**
+     * Test method for the list changing during a traversal.
+     * {@link list.ListView#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testFailFast() {
+        Iterator<Integer> it = myList.filtered(n -> n > 10).iterator();
+        it.next();
+        myList.add(1000);
+        it.next();
+    }
+
+    /**
+     * Test method for reading past the end of a view.
+     * {@link list.ListView#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testNextPastEnd() {
+        Iterator<Integer> it = myList.limited(1).iterator();
+        it.next();
+        it.next();
+    }
+
+    /**
+     * Test method for adding to a read-only view.
+     * {@link list.ListView#add(java.lang.Object)}.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        myList.limited(1).add(1);
+    }
+
+    /**
+     * Test method for a negative count.
+     * {@link list.ListView#skipped(long)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCount() {
+        myList.skipped(-1);
+    }
+}
@@ -0,0 +1,139 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import list.LongLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class LongLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class LongLinkedListTest {
+
+    private LongLinkedList myList;
+    final long[] values = { 4L, 8L, 15L, 16L, 23L, 42L, 1L << 40 };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new LongLinkedList(2);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding values past the initial capacity.
+     * {@link list.LongLinkedList#add(long)}.
+     */
+    @Test
+    public void testAdd() {
+        for (long value : values) {
+            assertTrue(myList.add(value));
+        }
+        assertEquals(myList.size(), values.length);
+        assertArrayEquals(myList.toArray(), values);
+    }
+
+    /**
+     * Test method for finding and removing values.
+     * {@link list.LongLinkedList#remove(long)}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        myList.addAll(values);
+        assertTrue(myList.contains(values[2]));
+        assertTrue(myList.remove(values[0]));
+        assertTrue(myList.remove(values[values.length - 1]));
+        assertFalse(myList.contains(values[0]));
+        assertFalse(myList.remove(99L));
+        assertEquals(myList.size(), values.length - 2);
+
+        myList.add(values[0]);
+        assertTrue(myList.contains(values[0]));
+        assertEquals(myList.size(), values.length - 1);
+
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        assertFalse(myList.contains(values[2]));
+    }
+
+    /**
+     * Test method for iterating and removing through the iterator.
+     * {@link list.LongLinkedList#iterator()}.
+     */
+    @Test
+    public void testIterator() {
+        myList.addAll(values);
+        PrimitiveIterator.OfLong it = myList.iterator();
+        int index = 0;
+        while (it.hasNext()) {
+            assertEquals(it.nextLong(), values[index]);
+            if (index % 2 == 0) {
+                it.remove();
+            }
+            index++;
+        }
+        assertEquals(index, values.length);
+        assertEquals(myList.size(), values.length / 2);
+        assertEquals(myList.stream().count(), values.length / 2);
+    }
+
+    /**
+     * Test method for streaming the values.
+     * {@link list.LongLinkedList#stream()}.
+     */
+    @Test
+    public void testStream() {
+        myList.addAll(values);
+        assertArrayEquals(myList.stream().toArray(), values);
+    }
+
+    /**
+     * Test method for iterating past the end.
+     * {@link list.LongLinkedList#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorEmptyList() {
+        myList.iterator().nextLong();
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.LongLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(values);
+        PrimitiveIterator.OfLong it = myList.iterator();
+        it.nextLong();
+        myList.remove(values[3]);
+        it.nextLong();
+    }
+}
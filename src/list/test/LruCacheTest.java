@@ -0,0 +1,188 @@
+package list.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import list.LruCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class LruCache.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class LruCacheTest {
+
+    private LruCache<String, Integer> cache;
+    private List<String> evicted;
+
+    /**
+     * setup a cache of three entries which records evictions.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        cache = new LruCache<String, Integer>(3);
+        evicted = new ArrayList<String>();
+        cache.addEvictionListener((key, value) -> evicted.add(key + "=" + value));
+    }
+
+    /**
+     * destroys the cache.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        cache = null;
+    }
+
+    /**
+     * Test method for evicting the least recently used entry.
+     * {@link list.LruCache#put(java.lang.Object, java.lang.Object)}.
+     */
+    @Test
+    public void testPutEvictsLeastRecentlyUsed() {
+        assertNull(cache.put("apple", 1));
+        cache.put("fish", 2);
+        cache.put("kale", 3);
+        assertEquals(cache.get("apple"), Integer.valueOf(1));
+        cache.put("car", 4);
+
+        assertEquals(evicted, Arrays.asList("fish=2"));
+        assertEquals(cache.keys(), Arrays.asList("kale", "apple", "car"));
+        assertFalse(cache.containsKey("fish"));
+        assertEquals(cache.size(), 3);
+        assertEquals(cache.getEvictionCount(), 1);
+    }
+
+    /**
+     * Test method for replacing a value without evicting.
+     * {@link list.LruCache#put(java.lang.Object, java.lang.Object)}.
+     */
+    @Test
+    public void testPutReplacesValue() {
+        cache.put("apple", 1);
+        cache.put("fish", 2);
+        cache.put("kale", 3);
+        assertEquals(cache.put("apple", 10), Integer.valueOf(1));
+        cache.put("car", 4);
+        assertEquals(evicted, Arrays.asList("fish=2"));
+        assertEquals(cache.peek("apple"), Integer.valueOf(10));
+        assertEquals(cache.toString(), "[kale=3, apple=10, car=4]");
+    }
+
+    /**
+     * Test method for touching and removing entries.
+     * {@link list.LruCache#touch(java.lang.Object)}.
+     */
+    @Test
+    public void testTouchAndRemove() {
+        cache.put("apple", 1);
+        cache.put("fish", 2);
+        cache.put("kale", 3);
+        assertTrue(cache.touch("apple"));
+        assertFalse(cache.touch("car"));
+        assertEquals(cache.keys(), Arrays.asList("fish", "kale", "apple"));
+
+        assertEquals(cache.remove("kale"), Integer.valueOf(3));
+        assertNull(cache.remove("kale"));
+        cache.put("car", 4);
+        assertTrue(evicted.isEmpty());
+        assertEquals(cache.keys(), Arrays.asList("fish", "apple", "car"));
+
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        assertTrue(evicted.isEmpty());
+    }
+
+    /**
+     * Test method for counting hits and misses.
+     * {@link list.LruCache#getHitRate()}.
+     */
+    @Test
+    public void testStatistics() {
+        assertEquals(cache.getHitRate(), 0, 0);
+        cache.put("apple", 1);
+        cache.get("apple");
+        cache.get("apple");
+        cache.get("fish");
+        cache.peek("fish");
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitRate(), 2.0 / 3, 1e-9);
+
+        cache.resetStatistics();
+        assertEquals(cache.getHitCount(), 0);
+        assertEquals(cache.getMissCount(), 0);
+    }
+
+    /**
+     * Test method for shrinking the cache.
+     * {@link list.LruCache#setMaxSize(int)}.
+     */
+    @Test
+    public void testSetMaxSize() {
+        cache.put("apple", 1);
+        cache.put("fish", 2);
+        cache.put("kale", 3);
+        cache.setMaxSize(1);
+        assertEquals(evicted, Arrays.asList("apple=1", "fish=2"));
+        assertEquals(cache.keys(), Arrays.asList("kale"));
+        assertEquals(cache.getMaxSize(), 1);
+    }
+
+    /**
+     * Test method for rejecting a cache which cannot hold an entry.
+     * {@link list.LruCache#LruCache(int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxSizeTooSmall() {
+        new LruCache<String, Integer>(0);
+    }
+
+    /**
+     * Test method for random gets and puts against an access-ordered LinkedHashMap.
+     * {@link list.LruCache#get(java.lang.Object)}.
+     */
+    @Test
+    public void testMatchesLinkedHashMap() {
+        final int maxSize = 50;
+        LruCache<Integer, Integer> lru = new LruCache<Integer, Integer>(maxSize);
+        Map<Integer, Integer> expected = new LinkedHashMap<Integer, Integer>(16, .75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        Random rand = new Random(42);
+        for (int i = 0; i < 50000; i++) {
+            Integer key = rand.nextInt(120);
+            if (rand.nextBoolean()) {
+                assertEquals(expected.get(key), lru.get(key));
+            } else {
+                assertEquals(expected.put(key, i), lru.put(key, i));
+            }
+        }
+        assertEquals(new ArrayList<Integer>(expected.keySet()), lru.keys());
+    }
+}
@@ -0,0 +1,247 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import list.OffHeapLinkedList;
+import list.io.ElementCodecs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class OffHeapLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class OffHeapLinkedListTest {
+
+    private OffHeapLinkedList<Integer> myList;
+
+    /**
+     * setup new empty list of ints.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new OffHeapLinkedList<Integer>(ElementCodecs.INT);
+    }
+
+    /**
+     * closes the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList.close();
+        myList = null;
+    }
+
+    /**
+     * Test method for adding, finding and removing elements.
+     * {@link list.OffHeapLinkedList#add(java.lang.Object)}.
+     */
+    @Test
+    public void testAddContainsAndRemove() {
+        assertTrue(myList.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            myList.add(i);
+        }
+        myList.addFirst(-1);
+        assertEquals(myList.size(), 11);
+        assertTrue(myList.contains(5));
+        assertFalse(myList.contains(10));
+        assertFalse(myList.contains(null));
+        assertFalse(myList.contains("5"));
+
+        assertTrue(myList.remove(5));
+        assertFalse(myList.remove(5));
+        assertEquals(myList.removeFirst(), Integer.valueOf(-1));
+        assertEquals(myList.removeLast(), Integer.valueOf(9));
+        assertArrayEquals(myList.toArray(), new Object[] {0, 1, 2, 3, 4, 6, 7, 8});
+        assertEquals(myList.getFirst(), Integer.valueOf(0));
+        assertEquals(myList.getLast(), Integer.valueOf(8));
+    }
+
+    /**
+     * Test method for walking the list backward and editing through the iterator.
+     * {@link list.OffHeapLinkedList#iteratorFromEnd()}.
+     */
+    @Test
+    public void testIteratorBothWays() {
+        for (int i = 0; i < 5; i++) {
+            myList.add(i);
+        }
+        ListIterator<Integer> it = myList.iteratorFromEnd();
+        List<Integer> seen = new ArrayList<Integer>();
+        while (it.hasPrevious()) {
+            seen.add(it.previous());
+        }
+        assertEquals(seen.toString(), "[4, 3, 2, 1, 0]");
+
+        it.next();
+        it.remove();
+        it.next();
+        it.set(10);
+        it.add(11);
+        assertEquals(myList.toString(), "[10, 11, 2, 3, 4]");
+        assertEquals(it.nextIndex(), 2);
+        assertEquals(it.previous(), Integer.valueOf(11));
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.OffHeapLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.add(1);
+        myList.add(2);
+        Iterator<Integer> it = myList.iterator();
+        it.next();
+        myList.add(3);
+        it.next();
+    }
+
+    /**
+     * Test method for random iterator edits against an ArrayList, across several chunks.
+     * {@link list.OffHeapLinkedList#iterator()}.
+     */
+    @Test
+    public void testMatchesArrayList() {
+        Random rand = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        ListIterator<Integer> expectedIt = expected.listIterator();
+        ListIterator<Integer> it = myList.iterator();
+        for (int i = 0; i < 60000; i++) {
+            int op = rand.nextInt(6);
+            if (op < 3) {
+                expectedIt.add(i);
+                it.add(i);
+            } else if (op == 3 && expectedIt.hasNext()) {
+                assertEquals(expectedIt.next(), it.next());
+                if (rand.nextBoolean()) {
+                    expectedIt.remove();
+                    it.remove();
+                }
+            } else if (op == 4 && expectedIt.hasPrevious()) {
+                assertEquals(expectedIt.previous(), it.previous());
+                if (rand.nextBoolean()) {
+                    expectedIt.remove();
+                    it.remove();
+                }
+            }
+            assertEquals(expectedIt.nextIndex(), it.nextIndex());
+        }
+        assertEquals(expected.size(), myList.size());
+        assertArrayEquals(expected.toArray(), myList.toArray());
+        assertTrue(myList.getReservedBytes() >= 12L * expected.size());
+    }
+
+    /**
+     * Test method for reusing slots after clear.
+     * {@link list.OffHeapLinkedList#clear()}.
+     */
+    @Test
+    public void testClearReusesChunks() {
+        for (int i = 0; i < 20000; i++) {
+            myList.add(i);
+        }
+        long reserved = myList.getReservedBytes();
+        myList.clear();
+        assertTrue(myList.isEmpty());
+        for (int i = 0; i < 20000; i++) {
+            myList.add(-i);
+        }
+        assertEquals(myList.getReservedBytes(), reserved);
+        assertEquals(myList.getLast(), Integer.valueOf(-19999));
+    }
+
+    /**
+     * Test method for several threads reading the list at once.
+     * {@link list.OffHeapLinkedList#iterator()}.
+     *
+     * @throws Exception - when a reader fails
+     */
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        long expected = 0;
+        for (int i = 0; i < 50000; i++) {
+            myList.add(i * 7);
+            expected += i * 7;
+        }
+        final long sum = expected;
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int round = 0; round < 10; round++) {
+                        long total = 0;
+                        for (Integer element : myList) {
+                            total += element;
+                        }
+                        assertEquals(total, sum);
+                        assertTrue(myList.contains(49999 * 7));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Test method for using the list after close.
+     * {@link list.OffHeapLinkedList#close()}.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        myList.add(1);
+        myList.close();
+        assertEquals(myList.getReservedBytes(), 0);
+        myList.close();
+        myList.add(2);
+    }
+
+    /**
+     * Test method for refusing null elements.
+     * {@link list.OffHeapLinkedList#add(java.lang.Object)}.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        myList.add(null);
+    }
+
+    /**
+     * Test method for refusing a variable width codec.
+     * {@link list.OffHeapLinkedList#OffHeapLinkedList(list.io.ElementCodec)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testVariableWidthCodec() {
+        new OffHeapLinkedList<String>(ElementCodecs.UTF8);
+    }
+}
@@ -0,0 +1,198 @@
+package list.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import list.LinkedList;
+import list.PersistentLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class PersistentLinkedList and snapshots of LinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class PersistentLinkedListTest {
+
+    private LinkedList<String> myLinkedList;
+    final String[] values = { "hello", "test", "kale", "nomad", "apple", "fish" };
+
+    /**
+     * setup new LinkedList holding the values.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myLinkedList = new LinkedList<String>();
+        myLinkedList.addAll(Arrays.asList(values));
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myLinkedList = null;
+    }
+
+    /**
+     * Test method for prepending and appending to shared versions.
+     * {@link list.PersistentLinkedList#append(java.lang.Object)}.
+     */
+    @Test
+    public void testPrependAndAppend() {
+        PersistentLinkedList<String> snapshot = myLinkedList.snapshot();
+        PersistentLinkedList<String> longer = snapshot.prepend("b").prepend("a").append("y").append("z");
+        PersistentLinkedList<String> branch = snapshot.append("other");
+
+        assertEquals(longer.size(), values.length + 4);
+        assertEquals(longer.toString(), "[a, b, hello, test, kale, nomad, apple, fish, y, z]");
+        assertEquals(branch.toString(), "[hello, test, kale, nomad, apple, fish, other]");
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+        assertEquals(longer.getFirst(), "a");
+        assertEquals(longer.getLast(), "z");
+        assertEquals(branch.getLast(), "other");
+
+        List<String> expected = new ArrayList<String>(longer);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(longer.get(i), expected.get(i));
+        }
+    }
+
+    /**
+     * Test method for building a list from the empty one.
+     * {@link list.PersistentLinkedList#empty()}.
+     */
+    @Test
+    public void testEmpty() {
+        PersistentLinkedList<Integer> empty = PersistentLinkedList.empty();
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.iterator().hasNext());
+
+        PersistentLinkedList<Integer> appended = empty.append(2).append(3).prepend(1);
+        assertEquals(appended.toString(), "[1, 2, 3]");
+        assertEquals(appended.getFirst(), Integer.valueOf(1));
+        assertEquals(appended.getLast(), Integer.valueOf(3));
+        assertEquals(empty.prepend(5).getLast(), Integer.valueOf(5));
+        assertEquals(appended, PersistentLinkedList.copyOf(Arrays.asList(1, 2, 3)));
+        assertEquals(appended.hashCode(), Arrays.asList(1, 2, 3).hashCode());
+        assertNotEquals(appended, empty.append(1).append(2));
+    }
+
+    /**
+     * Test method for the first element of an empty list.
+     * {@link list.PersistentLinkedList#getFirst()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testGetFirstEmpty() {
+        PersistentLinkedList.empty().getFirst();
+    }
+
+    /**
+     * Test method for an index past the end.
+     * {@link list.PersistentLinkedList#get(int)}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        myLinkedList.snapshot().append("z").get(values.length + 1);
+    }
+
+    /**
+     * Test method for removing through the iterator of an immutable list.
+     * {@link list.PersistentLinkedList#iterator()}.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIteratorRemove() {
+        Iterator<String> it = myLinkedList.snapshot().iterator();
+        it.next();
+        it.remove();
+    }
+
+    /**
+     * Test method for a snapshot not seeing any later change of its source.
+     * {@link list.LinkedList#snapshot()}.
+     */
+    @Test
+    public void testSourceChangesAreInvisible() {
+        PersistentLinkedList<String> snapshot = myLinkedList.snapshot();
+        myLinkedList.add("car");
+        myLinkedList.pollFirst();
+        myLinkedList.addFirst("boat");
+        myLinkedList.removeIf(s -> s.startsWith("n"));
+        myLinkedList.replaceAll(String::toUpperCase);
+        myLinkedList.add(2, "door");
+        myLinkedList.clear();
+        myLinkedList.add("new");
+        assertEquals(snapshot.toString(), Arrays.toString(values));
+        assertEquals(snapshot.getLast(), "fish");
+
+        LinkedList<String> other = new LinkedList<String>();
+        other.addAll(Arrays.asList(values));
+        PersistentLinkedList<String> otherSnapshot = other.snapshot();
+        myLinkedList.splice(other);
+        myLinkedList.set(1, "changed");
+        myLinkedList.removeLastOccurrence("fish");
+        assertEquals(myLinkedList.toString(), "[new, changed, test, kale, nomad, apple]");
+        assertEquals(otherSnapshot.toString(), Arrays.toString(values));
+    }
+
+    /**
+     * Test method for reading one snapshot from several threads while the source changes.
+     * {@link list.LinkedList#snapshot()}.
+     */
+    @Test
+    public void testReadFromThreads() throws Exception {
+        LinkedList<Integer> numbers = new LinkedList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            numbers.add(i);
+        }
+        final PersistentLinkedList<Integer> snapshot = numbers.snapshot();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> sums = new ArrayList<Future<Long>>();
+            for (int t = 0; t < 4; t++) {
+                sums.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int round = 0; round < 20; round++) {
+                        for (Integer number : snapshot) {
+                            sum += number;
+                        }
+                    }
+                    return sum;
+                }));
+            }
+            for (int i = 0; i < 10000; i++) {
+                numbers.add(-i);
+                numbers.removeFirst();
+            }
+            numbers.set(0, 1);
+            for (Future<Long> sum : sums) {
+                assertEquals(sum.get().longValue(), 20L * 9999 * 10000 / 2);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(snapshot.size(), 10000);
+    }
+}
@@ -0,0 +1,189 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import list.StampedLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class StampedLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class StampedLinkedListTest {
+
+    private StampedLinkedList<String> myList;
+    final String[] values = { "hello", "test", "kale", "nomad", "apple", "fish" };
+    final String[] test2 = { "apple", "fish", "car", "garage", "apple" };
+
+    /**
+     * setup new empty list.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new StampedLinkedList<String>();
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding and finding elements.
+     * {@link list.StampedLinkedList#add(java.lang.Object)}.
+     */
+    @Test
+    public void testAddAndContains() {
+        assertTrue(myList.isEmpty());
+        assertTrue(myList.addAll(Arrays.asList(values)));
+        assertFalse(myList.addAll(new ArrayList<String>()));
+        assertEquals(myList.size(), values.length);
+        assertTrue(myList.contains("kale"));
+        assertTrue(myList.containsAll(Arrays.asList("hello", "fish")));
+        assertFalse(myList.contains("apples"));
+        assertFalse(myList.contains(null));
+        myList.add(null);
+        assertTrue(myList.contains(null));
+        assertEquals(myList.toString(), "[hello, test, kale, nomad, apple, fish, null]");
+    }
+
+    /**
+     * Test method for copying the list into arrays.
+     * {@link list.StampedLinkedList#toArray(java.lang.Object[])}.
+     */
+    @Test
+    public void testToArray() {
+        myList.addAll(Arrays.asList(values));
+        assertArrayEquals(myList.toArray(), values);
+        assertArrayEquals(myList.toArray(new String[0]), values);
+
+        String[] larger = new String[values.length + 2];
+        larger[values.length] = "x";
+        assertTrue(myList.toArray(larger) == larger);
+        assertEquals(larger[values.length], null);
+    }
+
+    /**
+     * Test method for bulk removal and retention.
+     * {@link list.StampedLinkedList#removeAll(java.util.Collection)}.
+     */
+    @Test
+    public void testRemoveAllRetainAllAndClear() {
+        myList.addAll(Arrays.asList(test2));
+        assertTrue(myList.remove("apple"));
+        assertFalse(myList.remove("kale"));
+        assertTrue(myList.removeAll(Arrays.asList("apple", "car")));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "garage"});
+        assertTrue(myList.retainAll(Arrays.asList("garage")));
+        assertArrayEquals(myList.toArray(), new Object[] {"garage"});
+        assertFalse(myList.removeIf(value -> value.startsWith("f")));
+
+        myList.clear();
+        assertTrue(myList.isEmpty());
+    }
+
+    /**
+     * Test method for iterating a snapshot while the list changes.
+     * {@link list.StampedLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorIsSnapshot() {
+        myList.addAll(Arrays.asList(values));
+        List<String> seen = new ArrayList<String>();
+        Iterator<String> it = myList.iterator();
+        while (it.hasNext()) {
+            String value = it.next();
+            seen.add(value);
+            if (value.length() == 4) {
+                it.remove();
+            }
+            myList.add("car");
+        }
+        assertEquals(seen, Arrays.asList(values));
+        assertEquals(myList.size(), 3 + values.length);
+        assertFalse(myList.contains("kale"));
+    }
+
+    /**
+     * Test method for readers never seeing half of a bulk change.
+     * Each writer call adds or removes a whole batch of equal elements,
+     * so every snapshot must hold a whole number of batches.
+     * {@link list.StampedLinkedList#addAll(java.util.Collection)}.
+     */
+    @Test
+    public void testBulkChangesAreAtomicToReaders() throws Exception {
+        final int batch = 16;
+        final StampedLinkedList<Integer> list = new StampedLinkedList<Integer>();
+        final AtomicBoolean done = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+
+        futures.add(pool.submit(() -> {
+            start.await();
+            for (int round = 0; round < 2000; round++) {
+                List<Integer> same = new ArrayList<Integer>();
+                for (int i = 0; i < batch; i++) {
+                    same.add(round % 8);
+                }
+                list.addAll(same);
+                if (round % 3 == 2) {
+                    list.removeAll(Arrays.asList((round - 1) % 8));
+                }
+            }
+            done.set(true);
+            return null;
+        }));
+        for (int r = 0; r < 3; r++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    int[] counts = new int[8];
+                    for (Object value : list.toArray()) {
+                        counts[(Integer) value]++;
+                    }
+                    for (int count : counts) {
+                        assertEquals(count % batch, 0);
+                    }
+                    assertEquals(list.size() % batch, 0);
+                    list.contains(-1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,214 @@
+package list.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import list.UnrolledLinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the class UnrolledLinkedList.
+ *
+ * @author Tzu Hsiang Chen (Jason)
+ * @version 1.1
+ * @since October 18, 2026
+ *
+ */
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<String> myList;
+    final String[] values = { "hello", "test", "kale", "nomad", "apple", "fish" };
+    final String[] test2 = { "apple", "fish", "car", "garage", "apple" };
+
+    /**
+     * setup a list with a small chunk capacity so chunks split and merge often.
+     *
+     * @throws java.lang.Exception - when the object cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        myList = new UnrolledLinkedList<String>(4);
+    }
+
+    /**
+     * destroys the list.
+     *
+     * @throws java.lang.Exception - when the object cannot be destroy
+     */
+    @After
+    public void tearDown() throws Exception {
+        myList = null;
+    }
+
+    /**
+     * Test method for adding elements across several chunks.
+     * {@link list.UnrolledLinkedList#add(java.lang.Object)}.
+     */
+    @Test
+    public void testAddElementsToList() {
+        for (String value : values) {
+            assertTrue(myList.add(value));
+        }
+        assertEquals(myList.size(), values.length);
+        assertArrayEquals(myList.toArray(), values);
+        assertArrayEquals(myList.toArray(new String[0]), values);
+        assertEquals(myList.toString(), Arrays.asList(values).toString());
+    }
+
+    /**
+     * Test method for finding elements.
+     * {@link list.UnrolledLinkedList#contains(java.lang.Object)}.
+     */
+    @Test
+    public void testContains() {
+        myList.addAll(Arrays.asList(values));
+        assertTrue(myList.contains("fish"));
+        assertTrue(myList.containsAll(Arrays.asList("hello", "apple")));
+        assertFalse(myList.contains("apples"));
+    }
+
+    /**
+     * Test method for removing the first occurrence of an element.
+     * {@link list.UnrolledLinkedList#remove(java.lang.Object)}.
+     */
+    @Test
+    public void testRemove() {
+        myList.addAll(Arrays.asList(test2));
+        assertTrue(myList.remove("apple"));
+        assertFalse(myList.remove("kale"));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "car", "garage", "apple"});
+
+        for (String value : test2) {
+            myList.remove(value);
+        }
+        assertTrue(myList.isEmpty());
+    }
+
+    /**
+     * Test method for bulk removal and retention.
+     * {@link list.UnrolledLinkedList#removeAll(java.util.Collection)}.
+     */
+    @Test
+    public void testRemoveAllAndRetainAll() {
+        myList.addAll(Arrays.asList(test2));
+        myList.addAll(Arrays.asList(values));
+        assertTrue(myList.removeAll(Arrays.asList("apple", "car")));
+        assertEquals(myList.size(), 7);
+        assertFalse(myList.contains("apple"));
+
+        assertTrue(myList.retainAll(Arrays.asList("fish", "kale")));
+        assertArrayEquals(myList.toArray(), new Object[] {"fish", "kale", "fish"});
+        assertFalse(myList.retainAll(Arrays.asList("fish", "kale")));
+    }
+
+    /**
+     * Test method for iterating forward and backward.
+     * {@link list.UnrolledLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorNextAndPrevious() {
+        myList.addAll(Arrays.asList(values));
+        ListIterator<String> it = myList.iterator();
+        int index = 0;
+        while (it.hasNext()) {
+            assertSame(it.next(), values[index++]);
+            assertEquals(index, it.nextIndex());
+        }
+
+        while (it.hasPrevious()) {
+            assertEquals(--index, it.previousIndex());
+            assertSame(it.previous(), values[index]);
+        }
+        assertEquals(index, 0);
+    }
+
+    /**
+     * Test method for iterating an empty list.
+     * {@link list.UnrolledLinkedList#iterator()}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorEmptyList() {
+        ListIterator<String> it = myList.iterator();
+        assertFalse(it.hasNext());
+        it.next();
+    }
+
+    /**
+     * Test method for changing the list while iterating it.
+     * {@link list.UnrolledLinkedList#iterator()}.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        myList.addAll(Arrays.asList(values));
+        ListIterator<String> it = myList.iterator();
+        it.next();
+        myList.remove("kale");
+        it.next();
+    }
+
+    /**
+     * Test method for random iterator edits against an ArrayList.
+     * {@link list.UnrolledLinkedList#iterator()}.
+     */
+    @Test
+    public void testIteratorMutationsMatchArrayList() {
+        Random rand = new Random(42);
+        List<String> expected = new ArrayList<String>();
+        ListIterator<String> expectedIt = expected.listIterator();
+        ListIterator<String> it = myList.iterator();
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(6);
+            if (op == 0 || op == 1) {
+                String value = "" + rand.nextInt(50);
+                expectedIt.add(value);
+                it.add(value);
+            } else if (op == 2 && expectedIt.hasNext()) {
+                assertEquals(expectedIt.next(), it.next());
+                if (rand.nextBoolean()) {
+                    expectedIt.remove();
+                    it.remove();
+                }
+            } else if (op == 3 && expectedIt.hasPrevious()) {
+                assertEquals(expectedIt.previous(), it.previous());
+                if (rand.nextBoolean()) {
+                    expectedIt.set("x" + i);
+                    it.set("x" + i);
+                } else {
+                    expectedIt.remove();
+                    it.remove();
+                }
+            } else if (op == 4) {
+                String value = "" + rand.nextInt(50);
+                assertEquals(expected.remove(value), myList.remove(value));
+                expectedIt = expected.listIterator();
+                it = myList.iterator();
+            }
+            assertEquals(expectedIt.nextIndex(), it.nextIndex());
+            assertEquals(expected.size(), myList.size());
+        }
+        assertArrayEquals(expected.toArray(), myList.toArray());
+    }
+
+    /**
+     * Test method for rejecting a chunk capacity which cannot hold a split.
+     * {@link list.UnrolledLinkedList#UnrolledLinkedList(int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testChunkCapacityTooSmall() {
+        new UnrolledLinkedList<String>(1);
+    }
+}